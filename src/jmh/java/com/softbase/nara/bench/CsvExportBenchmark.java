@@ -0,0 +1,78 @@
+package com.softbase.nara.bench;
+
+import com.softbase.nara.dto.BidNotice;
+import com.softbase.nara.export.BidCsvWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV 기록 (999건 1페이지 기준). 디스크 속도를 빼기 위해 Writer.nullWriter()에 기록.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CsvExportBenchmark {
+
+    private List<BidNotice> rows;
+    private List<String> header;
+
+    @Setup
+    public void setUp() {
+        Random rnd = new Random(42);
+        rows = new ArrayList<>(Fixtures.ROWS_PER_PAGE);
+        for (int i = 0; i < Fixtures.ROWS_PER_PAGE; i++) {
+            rows.add(BidNotice.fromValues(Fixtures.itemValues(rnd, i)));
+        }
+        header = BidCsvWriter.defaultHeader();
+    }
+
+    /*
+    전체 결과 저장 경로 (BidNotice → CSV 행)
+     */
+    @Benchmark
+    public void writeRows() throws Exception {
+        try (BidCsvWriter csv = new BidCsvWriter(Writer.nullWriter())) {
+            csv.writeHeader(header);
+            for (int i = 0; i < rows.size(); i++) {
+                csv.writeRow(rows.get(i), i + 1);
+            }
+        }
+    }
+
+    /*
+    현재 화면 저장 경로 (셀 문자열 목록 → CSV 행)
+     */
+    @Benchmark
+    public void writeCells() throws Exception {
+        try (BidCsvWriter csv = new BidCsvWriter(Writer.nullWriter())) {
+            csv.writeHeader(header);
+            List<String> cells = new ArrayList<>(header.size());
+            for (int i = 0; i < rows.size(); i++) {
+                BidNotice row = rows.get(i);
+                cells.clear();
+                cells.add(String.valueOf(i + 1));
+                for (int k = 0; k < header.size() - 1; k++) {
+                    cells.add(row.cell(k));
+                }
+                csv.writeCells(cells);
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.softbase.nara.bench;
+
+import com.softbase.nara.dto.BidItemColumn;
+import com.softbase.nara.search.KeywordMatcher;
+import com.softbase.nara.service.BidFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공고명 검색어 매칭·필터 적용 (999건 1페이지 기준). 검색어 수를 늘려가며 비교.
+ * contains 방식은 BidFilter가 KeywordMatcher로 바뀌기 전 구현과 같은 기준선.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FilterBenchmark {
+
+    @Param({"5", "30", "80"})
+    public int keywordCount;
+
+    private String[][] values;
+    private String[] names;
+    private List<String> keywords;
+    private KeywordMatcher matcher;
+    private BidFilter filter;
+
+    @Setup
+    public void setUp() {
+        Random rnd = new Random(42);
+        int nameIdx = BidItemColumn.KEY_LIST.indexOf("bidNtceNm");
+        values = new String[Fixtures.ROWS_PER_PAGE][];
+        names = new String[Fixtures.ROWS_PER_PAGE];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Fixtures.itemValues(rnd, i);
+            names[i] = values[i][nameIdx];
+        }
+        keywords = Fixtures.keywords(keywordCount);
+        matcher = KeywordMatcher.compile(keywords);
+        filter = BidFilter.compile("2000000000", String.join(",", keywords), null);
+    }
+
+    /*
+    공고명 검색어 매칭 (BidFilter.matchesSearchKeywords가 쓰는 KeywordMatcher.matchesAny)
+     */
+    @Benchmark
+    public void matchesSearchKeywords(Blackhole bh) {
+        for (String name : names) {
+            bh.consume(matcher.matchesAny(name));
+        }
+    }
+
+    /*
+    기준선: 검색어마다 String.contains
+     */
+    @Benchmark
+    public void matchesSearchKeywordsContains(Blackhole bh) {
+        for (String name : names) {
+            boolean hit = false;
+            for (String kw : keywords) {
+                if (name.contains(kw)) {
+                    hit = true;
+                    break;
+                }
+            }
+            bh.consume(hit);
+        }
+    }
+
+    /*
+    매칭키워드 컬럼 값 생성 (모든 매칭 검색어 수집)
+     */
+    @Benchmark
+    public void matchedKeywords(Blackhole bh) {
+        for (String name : names) {
+            bh.consume(matcher.matchedKeywords(name));
+        }
+    }
+
+    /*
+    금액 + 검색어 필터 적용 후 행 생성
+     */
+    @Benchmark
+    public void filterToRow(Blackhole bh) {
+        for (String[] v : values) {
+            bh.consume(filter.toRow(v));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.softbase.nara.bench;
+
+import com.softbase.nara.dto.BidItemColumn;
+import org.json.simple.JSONObject;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 응답 픽스처.
+ * 실제 API 응답(getDataSetOpnStdBidPblancInfo, type=json)과 같은 구조·필드·값 형식으로
+ * 고정 시드 난수를 써서 만들기 때문에 실행할 때마다 같은 내용이 나옴.
+ */
+final class Fixtures {
+
+    /** API 1회 호출당 최대 건수 */
+    static final int ROWS_PER_PAGE = 999;
+
+    private static final String[] NAME_PARTS = {
+            "차세대", "정보시스템", "통합", "유지관리", "구축", "고도화", "ISP", "ISMP", "시스템구축", "시스템재구축",
+            "클라우드", "전환", "데이터", "플랫폼", "보안", "관제", "용역", "물품", "구매", "설치",
+            "청사", "전산장비", "노후", "교체", "홈페이지", "개편", "인공지능", "학습", "행정", "서비스"
+    };
+    private static final String[] INSTT = {
+            "조달청", "행정안전부", "서울특별시", "경기도", "한국전력공사", "국민건강보험공단", "한국도로공사", "부산광역시"
+    };
+    private static final String[] BSNS_DIV = {"물품", "용역", "공사", "외자"};
+    private static final String[] STTUS = {"일반", "재공고", "변경공고", "취소공고"};
+    private static final String[] MTHD = {"제한경쟁", "일반경쟁", "협상에의한계약", "수의계약"};
+
+    private Fixtures() {}
+
+    /*
+    item rows건이 든 응답 JSON 문자열
+     */
+    @SuppressWarnings("unchecked")
+    static String responseJson(int rows, long seed) {
+        Random rnd = new Random(seed);
+        StringBuilder sb = new StringBuilder(rows * 900);
+        sb.append("{\"response\":{\"header\":{\"resultCode\":\"00\",\"resultMsg\":\"정상\"},\"body\":{\"items\":[");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) sb.append(',');
+            JSONObject item = new JSONObject();
+            String[] values = itemValues(rnd, i);
+            for (int k = 0; k < values.length; k++) {
+                item.put(BidItemColumn.KEY_LIST.get(k), values[k]);
+            }
+            sb.append(item.toJSONString());
+        }
+        sb.append("],\"numOfRows\":").append(rows)
+                .append(",\"pageNo\":1,\"totalCount\":").append(rows * 7L)
+                .append("}}}");
+        return sb.toString();
+    }
+
+    static byte[] responseBytes(int rows, long seed) {
+        return responseJson(rows, seed).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /*
+    KEY_LIST 순서의 item 값 배열
+     */
+    static String[] itemValues(Random rnd, int i) {
+        String no = String.format("R25BK%08d", 100000 + i);
+        int day = 1 + rnd.nextInt(28);
+        long amount = rnd.nextInt(10) == 0 ? -1 : (long) (rnd.nextDouble() * 5_000_000_000L);
+        return new String[] {
+                no,                                                     // bidNtceNo
+                String.format("%03d", rnd.nextInt(3)),                  // bidNtceOrd
+                rnd.nextBoolean() ? no : "",                            // refNtceNo
+                rnd.nextInt(5) == 0 ? "N" : "Y",                        // ppsNtceYn
+                bidName(rnd),                                           // bidNtceNm
+                pick(rnd, STTUS),                                       // bidNtceSttusNm
+                String.format("2025-01-%02d", day),                     // bidNtceDate
+                String.format("%02d:%02d", rnd.nextInt(24), rnd.nextInt(60)), // bidNtceBgn
+                pick(rnd, BSNS_DIV),                                    // bsnsDivNm
+                rnd.nextBoolean() ? "입찰공고" : "계약체결",               // cntrctCnclsSttusNm
+                pick(rnd, MTHD),                                        // cntrctCnclsMthdNm
+                pick(rnd, INSTT),                                       // ntceInsttNm
+                pick(rnd, INSTT),                                       // dmndInsttNm
+                amount < 0 ? "" : String.valueOf(amount),               // asignBdgtAmt
+                amount < 0 ? "" : String.valueOf(amount * 10 / 11),     // presmptPrce
+                "https://www.g2b.go.kr/link/PNPE027_01/single/?bidPbancNo=" + no // bidNtceUrl
+        };
+    }
+
+    /*
+    "2025년 ○○ 차세대 정보시스템 구축 사업" 형태의 공고명 (20~60자)
+     */
+    static String bidName(Random rnd) {
+        StringBuilder sb = new StringBuilder("2025년 ").append(pick(rnd, INSTT));
+        int parts = 3 + rnd.nextInt(6);
+        for (int p = 0; p < parts; p++) {
+            sb.append(' ').append(pick(rnd, NAME_PARTS));
+        }
+        return sb.append(" 사업").toString();
+    }
+
+    /*
+    검색어 목록 (앞쪽은 공고명에 실제로 나오는 단어, 나머지는 나오지 않는 단어)
+     */
+    static List<String> keywords(int count) {
+        List<String> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(i < 5 ? NAME_PARTS[i * 2] : "미등장검색어" + i);
+        }
+        return list;
+    }
+
+    private static String pick(Random rnd, String[] values) {
+        return values[rnd.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,64 @@
+package com.softbase.nara.bench;
+
+import com.softbase.nara.dto.BidItemColumn;
+import com.softbase.nara.dto.BidNotice;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 화면·CSV 표시 문자열 생성 (999건 1페이지 기준).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FormatBenchmark {
+
+    private BidNotice[] rows;
+    private long[] amounts;
+
+    @Setup
+    public void setUp() {
+        Random rnd = new Random(42);
+        rows = new BidNotice[Fixtures.ROWS_PER_PAGE];
+        amounts = new long[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = BidNotice.fromValues(Fixtures.itemValues(rnd, i));
+            amounts[i] = rows[i].asignBdgtAmt();
+        }
+    }
+
+    @Benchmark
+    public void formatAmount(Blackhole bh) {
+        for (long amount : amounts) {
+            bh.consume(BidNotice.formatAmount(amount));
+        }
+    }
+
+    /*
+    행 전체 컬럼 표시 문자열 (테이블 렌더링·CSV 기록 시 비용)
+     */
+    @Benchmark
+    public void cells(Blackhole bh) {
+        int columns = BidItemColumn.GRID_KEY_LIST.size();
+        for (BidNotice row : rows) {
+            for (int k = 0; k < columns; k++) {
+                bh.consume(row.cell(k));
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.softbase.nara.bench;
+
+import com.softbase.nara.dto.GridResult;
+import com.softbase.nara.parser.NaraResponseParser;
+import com.softbase.nara.service.BidFilter;
+import com.softbase.nara.service.NaraApiService;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 999건 응답 1페이지 파싱: DOM(json-simple) 파싱 vs 스트리밍 파싱, 필터 유무.
+ * 처리량 단위는 페이지/초.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+
+    private final NaraApiService service = NaraApiService.getInstance();
+
+    private String json;
+    private byte[] bytes;
+    private BidFilter filter;
+
+    @Setup
+    public void setUp() {
+        json = Fixtures.responseJson(Fixtures.ROWS_PER_PAGE, 42);
+        bytes = Fixtures.responseBytes(Fixtures.ROWS_PER_PAGE, 42);
+        // 화면 기본 조건과 같은 형태: 20억 이상 + 검색어 5개 + 용역
+        filter = BidFilter.compile("2000000000", "ISMP, ISP, 차세대, 시스템구축, 시스템재구축", "용역");
+    }
+
+    /*
+    NaraResponseParser.getResponse + getItemArray (DOM 파싱만)
+     */
+    @Benchmark
+    public int domItemArray() throws Exception {
+        JSONObject response = NaraResponseParser.getResponse(json);
+        JSONArray items = NaraResponseParser.getItemArray(NaraResponseParser.getResponseBody(response));
+        return items.size();
+    }
+
+    @Benchmark
+    public GridResult toGridRowsDom() throws Exception {
+        return service.toGridRows(json);
+    }
+
+    @Benchmark
+    public GridResult toGridRowsDomFiltered() throws Exception {
+        return service.toGridRows(json, filter);
+    }
+
+    @Benchmark
+    public GridResult toGridRowsStreaming() throws Exception {
+        return service.toGridRows(new ByteArrayInputStream(bytes));
+    }
+
+    @Benchmark
+    public GridResult toGridRowsStreamingFiltered() throws Exception {
+        return service.toGridRows(new ByteArrayInputStream(bytes), filter);
+    }
+}
@@ -0,0 +1,81 @@
+package com.softbase.nara.loadtest;
+
+import java.util.Random;
+
+/**
+ * 모의 서버 응답 지연 분포.
+ * 문자열 표기: "none", "fixed:50", "uniform:20-200", "lognormal:80,0.5" (단위 ms, lognormal은 중앙값·sigma)
+ */
+abstract class LatencyModel {
+
+    /*
+    다음 요청의 지연 시간(ms)
+     */
+    abstract long nextMillis(Random rnd);
+
+    static LatencyModel parse(String spec) {
+        String s = spec == null ? "none" : spec.trim();
+        try {
+            if (s.equals("none")) return fixed(0);
+            if (s.startsWith("fixed:")) return fixed(Long.parseLong(s.substring(6)));
+            if (s.startsWith("uniform:")) {
+                String[] p = s.substring(8).split("-");
+                return uniform(Long.parseLong(p[0]), Long.parseLong(p[1]));
+            }
+            if (s.startsWith("lognormal:")) {
+                String[] p = s.substring(10).split(",");
+                return logNormal(Double.parseDouble(p[0]), Double.parseDouble(p[1]));
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("지연 분포 형식이 올바르지 않습니다: " + spec, e);
+        }
+        throw new IllegalArgumentException("알 수 없는 지연 분포: " + spec);
+    }
+
+    static LatencyModel fixed(long ms) {
+        return new LatencyModel() {
+            @Override
+            long nextMillis(Random rnd) {
+                return ms;
+            }
+
+            @Override
+            public String toString() {
+                return "fixed:" + ms;
+            }
+        };
+    }
+
+    static LatencyModel uniform(long minMs, long maxMs) {
+        if (maxMs < minMs) throw new IllegalArgumentException("uniform 최대값이 최소값보다 작습니다.");
+        return new LatencyModel() {
+            @Override
+            long nextMillis(Random rnd) {
+                return minMs + (long) (rnd.nextDouble() * (maxMs - minMs + 1));
+            }
+
+            @Override
+            public String toString() {
+                return "uniform:" + minMs + "-" + maxMs;
+            }
+        };
+    }
+
+    /*
+    로그정규 분포: 대부분은 중앙값 근처, 가끔 긴 꼬리 (실제 API 지연과 비슷한 모양)
+     */
+    static LatencyModel logNormal(double medianMs, double sigma) {
+        double mu = Math.log(Math.max(1e-3, medianMs));
+        return new LatencyModel() {
+            @Override
+            long nextMillis(Random rnd) {
+                return Math.round(Math.exp(mu + sigma * rnd.nextGaussian()));
+            }
+
+            @Override
+            public String toString() {
+                return "lognormal:" + medianMs + "," + sigma;
+            }
+        };
+    }
+}
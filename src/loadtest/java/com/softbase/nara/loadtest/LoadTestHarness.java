@@ -0,0 +1,136 @@
+package com.softbase.nara.loadtest;
+
+import com.softbase.nara.client.NaraApiClient;
+import com.softbase.nara.metrics.MetricsSnapshot;
+import com.softbase.nara.metrics.NaraMetrics;
+import com.softbase.nara.service.NaraApiService;
+
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+부하 테스트 하네스: MockNaraServer를 띄우고 NaraApiService로 수집을 실행해
+경과 시간, 실제 달성 tps(서버가 받은 요청 수 / 경과 시간), 재시도 수, 단계별 지표를 출력.
+디스크 캐시·메모리 결과 재사용은 끄고 실행 (매 요청이 서버까지 가도록). --result-reuse true면 메모리 결과 재사용을 켬
+(--runs 2 이상에서 두 번째 실행부터 메모리 캐시 적중 확인용).
+
+사용법:
+  LoadTestHarness [--from 202501010000] [--to 202501072359] [--interval-seconds 30]
+                  [--latency none|fixed:MS|uniform:MIN-MAX|lognormal:MEDIAN,SIGMA]
+                  [--error-429 0.02] [--error-5xx 0.01] [--server-tps 30] [--retry-after 1]
+                  [--max-in-flight 5] [--max-pages 1000] [--mode window|range]
+                  [--min-amount 원] [--keywords "키워드1,키워드2"] [--runs 1] [--seed 0] [--metrics text|json]
+                  [--server-compression true|false] [--client-compression true|false] [--result-reuse false|true]
+  --mode window: fetchAllFilteredRows (기간 1개월 이내), range: fetchRange (기간 분할·순서 보장 스트리밍)
+ */
+public final class LoadTestHarness {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> opts = parseArgs(args);
+        PrintStream out = System.out;
+
+        MockNaraServer.Options so = new MockNaraServer.Options();
+        so.noticeIntervalSeconds = Long.parseLong(opts.getOrDefault("interval-seconds", "30"));
+        so.latency = LatencyModel.parse(opts.getOrDefault("latency", "lognormal:80,0.5"));
+        so.error429Rate = Double.parseDouble(opts.getOrDefault("error-429", "0"));
+        so.error5xxRate = Double.parseDouble(opts.getOrDefault("error-5xx", "0"));
+        so.tpsLimit = Integer.parseInt(opts.getOrDefault("server-tps", "30"));
+        so.retryAfterSeconds = Integer.parseInt(opts.getOrDefault("retry-after", "1"));
+        so.seed = Long.parseLong(opts.getOrDefault("seed", "0"));
+        so.compression = Boolean.parseBoolean(opts.getOrDefault("server-compression", "true"));
+        NaraApiClient.getInstance().setCompression(Boolean.parseBoolean(opts.getOrDefault("client-compression", "true")));
+
+        String from = opts.getOrDefault("from", "202501010000");
+        String to = opts.getOrDefault("to", "202501072359");
+        String mode = opts.getOrDefault("mode", "window");
+        int maxPages = Integer.parseInt(opts.getOrDefault("max-pages", "1000"));
+        int runs = Integer.parseInt(opts.getOrDefault("runs", "1"));
+        String minAmount = opts.get("min-amount");
+        String keywords = opts.get("keywords");
+
+        NaraApiService service = NaraApiService.getInstance();
+        service.setPageCache(null);
+        service.setResultReuse(Boolean.parseBoolean(opts.getOrDefault("result-reuse", "false")));
+        if (opts.containsKey("max-in-flight")) {
+            service.setMaxInFlight(Integer.parseInt(opts.get("max-in-flight")));
+        }
+
+        try (MockNaraServer server = new MockNaraServer(0, so)) {
+            server.start();
+            out.printf("모의 서버: %s | 공고 간격 %d초 | 지연 %s | 429 %.1f%% | 5xx %.1f%% | 서버 tps 상한 %s%n",
+                    server.baseUrl(), so.noticeIntervalSeconds, so.latency,
+                    so.error429Rate * 100, so.error5xxRate * 100, so.tpsLimit > 0 ? so.tpsLimit : "없음");
+            out.printf("수집: %s | %s ~ %s | maxInFlight %d | 페이지 상한 %d%n",
+                    mode, from, to, service.getMaxInFlight(), maxPages);
+
+            for (int run = 1; run <= runs; run++) {
+                NaraMetrics.getInstance().reset();
+                MockNaraServer.ServerStats before = server.stats();
+                long startNanos = System.nanoTime();
+                long rows;
+                if (mode.equals("range")) {
+                    rows = service.fetchRange(server.baseUrl(), "loadtest", from, to,
+                            minAmount, keywords, null, maxPages, 5_000, 30_000,
+                            (pageRows, pageIndex, pageCount) -> { });
+                } else {
+                    List<?> result = service.fetchAllFilteredRows(server.baseUrl(), "loadtest", from, to,
+                            minAmount, keywords, null, maxPages, 5_000, 30_000);
+                    rows = result.size();
+                }
+                double seconds = (System.nanoTime() - startNanos) / 1e9;
+                report(out, run, rows, seconds, diff(server.stats(), before),
+                        NaraMetrics.getInstance().snapshot(), opts.getOrDefault("metrics", "text"));
+            }
+        }
+    }
+
+    private static void report(PrintStream out, int run, long rows, double seconds,
+                               MockNaraServer.ServerStats s, MetricsSnapshot m, String metricsFormat) {
+        out.printf("%n[실행 %d] 경과 %.2f초 | 결과 %,d건 | %.0f건/s%n", run, seconds, rows, rows / seconds);
+        out.printf("  요청 %,d건 (정상 %,d) | 달성 tps %.1f (정상 %.1f) | 재시도 %,d%n",
+                s.requests(), s.ok(), s.requests() / seconds, s.ok() / seconds, m.counters().get("retries"));
+        out.printf("  서버 거절: tps 초과 429 %,d | 주입 429 %,d | 주입 5xx %,d | 잘못된 요청 %,d%n",
+                s.throttled(), s.injected429(), s.injected5xx(), s.badRequests());
+        long received = m.counters().get("bytesReceived");
+        long decoded = m.counters().get("bytesDecoded");
+        out.printf("  전송: 서버 %,d바이트 (압축 응답 %,d) | 수신 %,d → 해제 후 %,d바이트 (%.1f%%)%n",
+                s.bytesSent(), s.compressedResponses(), received, decoded,
+                decoded > 0 ? received * 100.0 / decoded : 0);
+        if ("json".equals(metricsFormat)) {
+            out.println(m.toJson());
+        } else {
+            out.print(m.toText());
+        }
+    }
+
+    private static MockNaraServer.ServerStats diff(MockNaraServer.ServerStats a, MockNaraServer.ServerStats b) {
+        return new MockNaraServer.ServerStats(a.requests() - b.requests(), a.ok() - b.ok(),
+                a.throttled() - b.throttled(), a.injected429() - b.injected429(),
+                a.injected5xx() - b.injected5xx(), a.badRequests() - b.badRequests(), a.bytesSent() - b.bytesSent(),
+                a.compressedResponses() - b.compressedResponses());
+    }
+
+    /*
+    "--key value" / "--key=value" 형식 인자 해석
+     */
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> opts = new LinkedHashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            String a = args[i];
+            if (!a.startsWith("--")) throw new IllegalArgumentException("알 수 없는 인자: " + a);
+            String key = a.substring(2);
+            int eq = key.indexOf('=');
+            if (eq >= 0) {
+                opts.put(key.substring(0, eq), key.substring(eq + 1));
+            } else {
+                if (i + 1 >= args.length) throw new IllegalArgumentException("--" + key + " 값이 없습니다.");
+                opts.put(key, args[++i]);
+            }
+        }
+        return opts;
+    }
+
+    private LoadTestHarness() {}
+}
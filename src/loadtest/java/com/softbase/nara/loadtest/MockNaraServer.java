@@ -0,0 +1,284 @@
+package com.softbase.nara.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * getDataSetOpnStdBidPblancInfo 모의 서버 (JDK com.sun.net.httpserver).
+ * 실제 API와 같은 response/header/body/items 형태의 JSON을 SyntheticNotices로 생성해 응답하며,
+ * 응답 지연 분포, 429/5xx 오류 비율, 서버 측 초당 처리량 제한(초과 시 429), 전송 압축 지원 여부를 설정할 수 있음.
+ * 요청 처리는 가상 스레드라 지연을 크게 줘도 서버 스레드가 부족해지지 않음.
+ */
+final class MockNaraServer implements AutoCloseable {
+
+    static final String PATH = "/1230000/ao/PubDataOpnStdService/getDataSetOpnStdBidPblancInfo";
+
+    /** 모의 서버 설정 (기본값: 지연·오류 없음, 처리량 제한 없음) */
+    static final class Options {
+        /** 공고 간격(초): 작을수록 기간당 공고가 많음 */
+        long noticeIntervalSeconds = 60;
+        /** 한 페이지 최대 건수 (요청 numOfRows가 더 크면 이 값으로 잘라서 응답) */
+        int maxRowsPerPage = 999;
+        LatencyModel latency = LatencyModel.fixed(0);
+        /** 429 Too Many Requests 응답 비율 (0~1) */
+        double error429Rate;
+        /** 5xx(500/503) 응답 비율 (0~1) */
+        double error5xxRate;
+        /** 서버 측 초당 처리 요청 상한 (0 이하면 제한 없음), 초과 요청은 429 */
+        int tpsLimit;
+        /** 오류 응답에 넣을 Retry-After(초), 0이면 헤더 없음 */
+        int retryAfterSeconds = 1;
+        /** 요청 Accept-Encoding에 따라 gzip/deflate로 압축 응답 (false면 헤더를 무시하고 항상 비압축) */
+        boolean compression = true;
+        /** 지연·오류 난수 시드 (0이면 매번 다름) */
+        long seed;
+    }
+
+    private final Options options;
+    private final SyntheticNotices notices;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ThreadLocal<Random> random;
+
+    /** 초당 처리량 제한: 현재 1초 구간 번호와 구간 내 허용 요청 수 */
+    private long tpsWindowSecond = -1;
+    private int tpsWindowCount;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder injected429 = new LongAdder();
+    private final LongAdder injected5xx = new LongAdder();
+    private final LongAdder badRequests = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder compressedResponses = new LongAdder();
+
+    /*
+    port 0이면 빈 포트 자동 선택 (baseUrl()로 확인)
+     */
+    MockNaraServer(int port, Options options) throws IOException {
+        this.options = options;
+        this.notices = new SyntheticNotices(options.noticeIntervalSeconds);
+        long seed = options.seed;
+        this.random = ThreadLocal.withInitial(() ->
+                seed == 0 ? new Random(ThreadLocalRandom.current().nextLong()) : new Random(seed ^ Thread.currentThread().threadId()));
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        server.createContext(PATH, this::handle);
+        server.setExecutor(executor);
+    }
+
+    void start() {
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + PATH;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /** 요청 처리 통계 */
+    record ServerStats(long requests, long ok, long throttled, long injected429, long injected5xx,
+                       long badRequests, long bytesSent, long compressedResponses) {
+    }
+
+    ServerStats stats() {
+        return new ServerStats(requests.sum(), ok.sum(), throttled.sum(), injected429.sum(), injected5xx.sum(),
+                badRequests.sum(), bytesSent.sum(), compressedResponses.sum());
+    }
+
+    private void handle(HttpExchange ex) throws IOException {
+        try (ex) {
+            requests.increment();
+            Random rnd = random.get();
+            sleep(options.latency.nextMillis(rnd));
+
+            // 서버 측 처리량 제한 초과 → 429
+            if (!tryAcquireTps()) {
+                throttled.increment();
+                sendError(ex, 429, "LIMITED_NUMBER_OF_SERVICE_REQUESTS_PER_SECOND_EXCEEDS_ERROR");
+                return;
+            }
+            double r = rnd.nextDouble();
+            if (r < options.error429Rate) {
+                injected429.increment();
+                sendError(ex, 429, "LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR");
+                return;
+            }
+            if (r < options.error429Rate + options.error5xxRate) {
+                injected5xx.increment();
+                sendError(ex, rnd.nextBoolean() ? 503 : 500, "SERVICE_TIMEOUT_ERROR");
+                return;
+            }
+            sendPage(ex, query(ex.getRequestURI().getRawQuery()));
+        }
+    }
+
+    private void sendPage(HttpExchange ex, Map<String, String> q) throws IOException {
+        int numOfRows;
+        int pageNo;
+        LocalDateTime bgn;
+        LocalDateTime end;
+        try {
+            numOfRows = Math.min(Integer.parseInt(q.getOrDefault("numOfRows", "10")), options.maxRowsPerPage);
+            pageNo = Integer.parseInt(q.getOrDefault("pageNo", "1"));
+            bgn = SyntheticNotices.parse(q.get("bidNtceBgnDt"));
+            end = SyntheticNotices.parse(q.get("bidNtceEndDt"));
+        } catch (NumberFormatException | DateTimeParseException | NullPointerException e) {
+            badRequests.increment();
+            sendJson(ex, 200, header("10", "잘못된 요청 파라메터 에러") + "}}");
+            return;
+        }
+        if (numOfRows < 1 || pageNo < 1 || q.get("ServiceKey") == null || q.get("ServiceKey").isEmpty()) {
+            badRequests.increment();
+            sendJson(ex, 200, header("10", "잘못된 요청 파라메터 에러") + "}}");
+            return;
+        }
+        // 실제 API와 같이 1개월 초과 기간은 거절
+        if (end.isBefore(bgn) || end.isAfter(bgn.plusMonths(1))) {
+            badRequests.increment();
+            sendJson(ex, 200, header("07", "입력범위값 초과 에러") + "}}");
+            return;
+        }
+
+        long total = notices.count(bgn, end);
+        long first = notices.firstIndex(bgn) + (long) (pageNo - 1) * numOfRows;
+        long n = Math.max(0, Math.min(numOfRows, total - (long) (pageNo - 1) * numOfRows));
+
+        StringBuilder sb = new StringBuilder(64 + (int) n * 900);
+        sb.append(header("00", "정상")).append(",\"body\":{\"items\":[");
+        for (long i = 0; i < n; i++) {
+            if (i > 0) sb.append(',');
+            sb.append(notices.itemJson(first + i));
+        }
+        sb.append("],\"numOfRows\":").append(numOfRows)
+                .append(",\"pageNo\":").append(pageNo)
+                .append(",\"totalCount\":").append(total)
+                .append("}}}");
+        ok.increment();
+        sendJson(ex, 200, sb.toString());
+    }
+
+    private static String header(String resultCode, String resultMsg) {
+        return "{\"response\":{\"header\":{\"resultCode\":\"" + resultCode + "\",\"resultMsg\":\"" + resultMsg + "\"}";
+    }
+
+    private void sendError(HttpExchange ex, int status, String message) throws IOException {
+        if (options.retryAfterSeconds > 0) {
+            ex.getResponseHeaders().set("Retry-After", String.valueOf(options.retryAfterSeconds));
+        }
+        byte[] body = message.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().set("Content-Type", "text/plain; charset=UTF-8");
+        ex.sendResponseHeaders(status, body.length);
+        try (OutputStream os = ex.getResponseBody()) {
+            os.write(body);
+        }
+        bytesSent.add(body.length);
+    }
+
+    private void sendJson(HttpExchange ex, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        String encoding = options.compression ? negotiateEncoding(ex.getRequestHeaders().getFirst("Accept-Encoding")) : null;
+        if (encoding != null) {
+            body = compress(body, encoding);
+            ex.getResponseHeaders().set("Content-Encoding", encoding);
+            compressedResponses.increment();
+        }
+        ex.sendResponseHeaders(status, body.length);
+        try (OutputStream os = ex.getResponseBody()) {
+            os.write(body);
+        }
+        bytesSent.add(body.length);
+    }
+
+    /*
+    1초 고정 구간 카운터로 초당 처리량 제한 (구간 경계 전후로는 순간적으로 최대 2배까지 허용될 수 있음)
+     */
+    private synchronized boolean tryAcquireTps() {
+        if (options.tpsLimit <= 0) return true;
+        long second = System.nanoTime() / 1_000_000_000L;
+        if (second != tpsWindowSecond) {
+            tpsWindowSecond = second;
+            tpsWindowCount = 0;
+        }
+        if (tpsWindowCount >= options.tpsLimit) return false;
+        tpsWindowCount++;
+        return true;
+    }
+
+    /*
+    Accept-Encoding에서 gzip 우선, 없으면 deflate (q 값은 0만 제외하고 무시)
+     */
+    private static String negotiateEncoding(String acceptEncoding) {
+        if (acceptEncoding == null) return null;
+        boolean deflate = false;
+        for (String part : acceptEncoding.split(",")) {
+            String[] p = part.trim().split(";");
+            if (p.length > 1 && p[1].trim().replace(" ", "").equals("q=0")) continue;
+            if (p[0].equalsIgnoreCase("gzip")) return "gzip";
+            if (p[0].equalsIgnoreCase("deflate")) deflate = true;
+        }
+        return deflate ? "deflate" : null;
+    }
+
+    private static byte[] compress(byte[] body, String encoding) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(body.length / 8 + 64);
+        if (encoding.equals("gzip")) {
+            try (GZIPOutputStream gz = new GZIPOutputStream(bos, 8192)) {
+                gz.write(body);
+            }
+        } else {
+            Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+            try (DeflaterOutputStream df = new DeflaterOutputStream(bos, deflater, 8192)) {
+                df.write(body);
+            } finally {
+                deflater.end();
+            }
+        }
+        return bos.toByteArray();
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> q = new HashMap<>();
+        if (rawQuery == null) return q;
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq <= 0) continue;
+            q.put(pair.substring(0, eq), URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+        }
+        return q;
+    }
+
+    private static void sleep(long ms) {
+        if (ms <= 0) return;
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
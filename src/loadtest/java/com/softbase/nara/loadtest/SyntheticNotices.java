@@ -0,0 +1,107 @@
+package com.softbase.nara.loadtest;
+
+import org.json.simple.JSONObject;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+/**
+ * 합성 입찰공고 데이터. 기준 시각부터 intervalSeconds마다 공고 1건이 있다고 보고,
+ * 공고 내용은 순번을 시드로 만들어 같은 공고는 어느 기간·페이지로 조회해도 항상 같은 값이 나옴.
+ * 목록을 메모리에 들고 있지 않고 필요한 페이지의 item만 계산해서 생성.
+ */
+final class SyntheticNotices {
+
+    private static final DateTimeFormatter BID_DT_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+    /** 공고 순번 0의 시각 */
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    private static final String[] NAME_PARTS = {
+            "차세대", "정보시스템", "통합", "유지관리", "구축", "고도화", "ISP", "ISMP", "시스템구축", "시스템재구축",
+            "클라우드", "전환", "데이터", "플랫폼", "보안", "관제", "청사", "전산장비", "노후", "교체",
+            "홈페이지", "개편", "인공지능", "학습", "행정", "서비스", "구매", "설치", "임차", "운영"
+    };
+    private static final String[] INSTT = {
+            "조달청", "행정안전부", "서울특별시", "경기도", "한국전력공사", "국민건강보험공단", "한국도로공사", "부산광역시"
+    };
+    private static final String[] BSNS_DIV = {"물품", "용역", "공사", "외자"};
+    private static final String[] STTUS = {"일반", "재공고", "변경공고", "취소공고"};
+    private static final String[] MTHD = {"제한경쟁", "일반경쟁", "협상에의한계약", "수의계약"};
+
+    private final long intervalSeconds;
+
+    SyntheticNotices(long intervalSeconds) {
+        if (intervalSeconds < 1) throw new IllegalArgumentException("intervalSeconds는 1 이상이어야 합니다.");
+        this.intervalSeconds = intervalSeconds;
+    }
+
+    /*
+    기간(양 끝 포함, 분 단위)에 속한 첫 공고 순번
+     */
+    long firstIndex(LocalDateTime bgn) {
+        long sec = seconds(bgn);
+        return sec <= 0 ? 0 : (sec + intervalSeconds - 1) / intervalSeconds;
+    }
+
+    /*
+    기간(양 끝 포함, 분 단위)에 속한 공고 수
+     */
+    long count(LocalDateTime bgn, LocalDateTime end) {
+        long last = Math.floorDiv(seconds(end) + 59, intervalSeconds); // end 분의 59초까지 포함
+        long first = firstIndex(bgn);
+        return Math.max(0, last - first + 1);
+    }
+
+    /*
+    순번 공고 1건의 item JSON
+     */
+    @SuppressWarnings("unchecked")
+    String itemJson(long index) {
+        Random rnd = new Random(index * 0x9E3779B97F4A7C15L);
+        LocalDateTime at = EPOCH.plusSeconds(index * intervalSeconds);
+        String no = String.format("R%02dBK%08d", at.getYear() % 100, index);
+        long amount = rnd.nextInt(10) == 0 ? -1 : (long) (rnd.nextDouble() * 5_000_000_000L);
+
+        JSONObject item = new JSONObject();
+        item.put("bidNtceNo", no);
+        item.put("bidNtceOrd", String.format("%03d", rnd.nextInt(3)));
+        item.put("refNtceNo", rnd.nextBoolean() ? no : "");
+        item.put("ppsNtceYn", rnd.nextInt(5) == 0 ? "N" : "Y");
+        item.put("bidNtceNm", bidName(rnd, at));
+        item.put("bidNtceSttusNm", pick(rnd, STTUS));
+        item.put("bidNtceDate", at.toLocalDate().toString());
+        item.put("bidNtceBgn", String.format("%02d:%02d", at.getHour(), at.getMinute()));
+        item.put("bsnsDivNm", pick(rnd, BSNS_DIV));
+        item.put("cntrctCnclsSttusNm", rnd.nextBoolean() ? "입찰공고" : "계약체결");
+        item.put("cntrctCnclsMthdNm", pick(rnd, MTHD));
+        item.put("ntceInsttNm", pick(rnd, INSTT));
+        item.put("dmndInsttNm", pick(rnd, INSTT));
+        item.put("asignBdgtAmt", amount < 0 ? "" : String.valueOf(amount));
+        item.put("presmptPrce", amount < 0 ? "" : String.valueOf(amount * 10 / 11));
+        item.put("bidNtceUrl", "https://www.g2b.go.kr/link/PNPE027_01/single/?bidPbancNo=" + no);
+        return item.toJSONString();
+    }
+
+    static LocalDateTime parse(String bidDt) {
+        return LocalDateTime.parse(bidDt, BID_DT_FORMAT);
+    }
+
+    private static String bidName(Random rnd, LocalDateTime at) {
+        StringBuilder sb = new StringBuilder().append(at.getYear()).append("년 ").append(pick(rnd, INSTT));
+        int parts = 3 + rnd.nextInt(6);
+        for (int p = 0; p < parts; p++) {
+            sb.append(' ').append(pick(rnd, NAME_PARTS));
+        }
+        return sb.append(" 사업").toString();
+    }
+
+    private static long seconds(LocalDateTime t) {
+        return t.toEpochSecond(ZoneOffset.UTC) - EPOCH.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static String pick(Random rnd, String[] values) {
+        return values[rnd.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,335 @@
+package com.softbase.nara.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * API 응답 페이지 디스크 캐시.
+ * 키: (End Point, bidNtceBgnDt, bidNtceEndDt, numOfRows, pageNo). 값: 응답 본문을 gzip으로 압축해 파일 1개로 저장.
+ * 파일 구조: [MAGIC(int)][만료시각 epoch ms(long)][gzip 본문]
+ * 만료: 조회 기간 종료일시가 이미 지난 기간(CLOSED_GRACE 이상 경과)은 긴 TTL, 최근·진행 중 기간은 짧은 TTL.
+ * 용량: 전체 파일 크기가 maxBytes를 넘으면 마지막 사용 시각(파일 수정 시각) 기준 오래된 것부터 삭제(LRU).
+ * 캐시 오류는 조회를 실패시키지 않고 로그만 남긴 뒤 미스로 처리.
+ */
+public final class PageDiskCache {
+
+    private static final Logger log = Logger.getLogger(PageDiskCache.class.getName());
+
+    /** 파일 식별자 ("NPC1") */
+    private static final int MAGIC = 0x4E504331;
+    private static final String SUFFIX = ".page";
+    private static final DateTimeFormatter BID_DT_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+
+    /** 기본 저장 위치 */
+    public static final Path DEFAULT_DIR = Paths.get(System.getProperty("user.home"), ".nara-cache", "pages");
+    /** 기본 용량 상한 (256MB) */
+    public static final long DEFAULT_MAX_BYTES = 256L * 1024 * 1024;
+    /** 최근·진행 중 기간 기본 TTL (10분) */
+    public static final long DEFAULT_RECENT_TTL_MS = 10 * 60 * 1000L;
+    /** 종료된 기간 기본 TTL (30일) */
+    public static final long DEFAULT_CLOSED_TTL_MS = 30L * 24 * 60 * 60 * 1000;
+    /** 종료일시 이후 이 시간이 지나야 "종료된 기간"으로 간주 (종료 직후 늦게 반영되는 공고 대비, 1시간) */
+    public static final long CLOSED_GRACE_MS = 60 * 60 * 1000L;
+
+    private final Path dir;
+    private final long maxBytes;
+    private final long recentTtlMs;
+    private final long closedTtlMs;
+    /** 현재 저장된 파일 크기 합 (추정치, 정리 시 재계산) */
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    public PageDiskCache(Path dir, long maxBytes, long recentTtlMs, long closedTtlMs) throws IOException {
+        this.dir = dir;
+        this.maxBytes = maxBytes;
+        this.recentTtlMs = recentTtlMs;
+        this.closedTtlMs = closedTtlMs;
+        Files.createDirectories(dir);
+        totalBytes.set(scan().stream().mapToLong(f -> f.size).sum());
+    }
+
+    /*
+    기본 설정(DEFAULT_DIR, 256MB, 10분/30일) 캐시 생성. 디렉터리를 만들 수 없으면 null (캐시 없이 동작).
+     */
+    public static PageDiskCache createDefault() {
+        try {
+            return new PageDiskCache(DEFAULT_DIR, DEFAULT_MAX_BYTES, DEFAULT_RECENT_TTL_MS, DEFAULT_CLOSED_TTL_MS);
+        } catch (IOException e) {
+            log.log(Level.WARNING, "페이지 캐시 디렉터리 생성 실패, 캐시 없이 동작: " + DEFAULT_DIR, e);
+            return null;
+        }
+    }
+
+    /*
+    캐시 키 생성 (요청 파라미터를 정규화해서 SHA-256 파일명으로 사용).
+     */
+    public static String key(String baseUrl, String bidNtceBgnDt, String bidNtceEndDt, String numOfRows, String pageNo) {
+        String raw = baseUrl + '|' + bidNtceBgnDt + '|' + bidNtceEndDt + '|' + numOfRows.trim() + '|' + pageNo.trim();
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(raw.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /*
+    캐시된 응답 본문 스트림 반환 (압축 해제). 없거나 만료되었으면 null.
+    읽을 때마다 파일 수정 시각을 갱신해 LRU 순서에 반영.
+     */
+    public InputStream open(String key) {
+        Path file = dir.resolve(key + SUFFIX);
+        try {
+            InputStream in = new BufferedInputStream(Files.newInputStream(file));
+            DataInputStream din = new DataInputStream(in);
+            boolean ok = false;
+            try {
+                if (din.readInt() != MAGIC) return null;
+                long expiresAt = din.readLong();
+                if (System.currentTimeMillis() > expiresAt) return null;
+                Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+                InputStream body = new GZIPInputStream(din, 16 * 1024);
+                ok = true;
+                return body;
+            } finally {
+                if (!ok) {
+                    din.close();
+                    deleteQuietly(file);
+                }
+            }
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            log.log(Level.FINE, "페이지 캐시 읽기 실패: " + key, e);
+            deleteQuietly(file);
+            return null;
+        }
+    }
+
+    /*
+    캐시된 응답 본문 문자열 반환. 없거나 만료되었으면 null.
+     */
+    public String getString(String key) {
+        try (InputStream in = open(key)) {
+            return in == null ? null : new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.log(Level.FINE, "페이지 캐시 읽기 실패: " + key, e);
+            return null;
+        }
+    }
+
+    /*
+    응답 본문 저장. bidNtceEndDt로 TTL 결정.
+     */
+    public void put(String key, String bidNtceEndDt, byte[] body) {
+        try (Recorder r = new Recorder(new ByteArrayInputStream(body), key, bidNtceEndDt)) {
+            r.commit();
+        } catch (IOException e) {
+            log.log(Level.FINE, "페이지 캐시 저장 실패: " + key, e);
+        }
+    }
+
+    /*
+    네트워크 응답 스트림을 감싸서, 읽는 동안 임시 파일에 압축 기록.
+    호출자가 응답을 정상 처리한 뒤 commit()하면 캐시에 반영되고, commit 없이 close하면 버림.
+     */
+    public Recorder record(InputStream source, String key, String bidNtceEndDt) throws IOException {
+        return new Recorder(source, key, bidNtceEndDt);
+    }
+
+    /*
+    조회 기간 종료일시 기준 TTL(ms). 종료일시를 해석할 수 없으면 짧은 TTL.
+     */
+    long ttlFor(String bidNtceEndDt) {
+        try {
+            LocalDateTime end = LocalDateTime.parse(bidNtceEndDt, BID_DT_FORMAT);
+            LocalDateTime closedBefore = LocalDateTime.now().minus(Duration.ofMillis(CLOSED_GRACE_MS));
+            return end.isBefore(closedBefore) ? closedTtlMs : recentTtlMs;
+        } catch (DateTimeParseException | NullPointerException e) {
+            return recentTtlMs;
+        }
+    }
+
+    /*
+    용량 상한을 넘으면 오래 사용하지 않은 파일부터 삭제.
+     */
+    private synchronized void evictIfNeeded() {
+        if (totalBytes.get() <= maxBytes) return;
+        List<Entry> entries = scan();
+        long total = entries.stream().mapToLong(f -> f.size).sum();
+        entries.sort(Comparator.comparingLong(f -> f.lastUsed));
+        for (Entry e : entries) {
+            if (total <= maxBytes * 9 / 10) break; // 여유 10% 확보해서 잦은 정리 방지
+            if (deleteQuietly(e.path)) total -= e.size;
+        }
+        totalBytes.set(total);
+    }
+
+    private List<Entry> scan() {
+        List<Entry> list = new ArrayList<>();
+        try (DirectoryStream<Path> ds = Files.newDirectoryStream(dir, "*" + SUFFIX)) {
+            for (Path p : ds) {
+                try {
+                    list.add(new Entry(p, Files.size(p), Files.getLastModifiedTime(p).toMillis()));
+                } catch (IOException ignore) {
+                    // 다른 스레드가 삭제한 파일
+                }
+            }
+        } catch (IOException e) {
+            log.log(Level.FINE, "페이지 캐시 디렉터리 조회 실패: " + dir, e);
+        }
+        return list;
+    }
+
+    private static boolean deleteQuietly(Path p) {
+        try {
+            return Files.deleteIfExists(p);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static final class Entry {
+        final Path path;
+        final long size;
+        final long lastUsed;
+
+        Entry(Path path, long size, long lastUsed) {
+            this.path = path;
+            this.size = size;
+            this.lastUsed = lastUsed;
+        }
+    }
+
+    /**
+     * 읽는 동안 원본 바이트를 임시 파일에 gzip으로 기록하는 스트림.
+     * commit(): 남은 바이트까지 모두 읽어 기록을 마치고 캐시 파일로 원자적 이동.
+     */
+    public final class Recorder extends FilterInputStream {
+
+        private final String key;
+        private final Path tmp;
+        private final OutputStream gz;
+        /** 기록 종료 여부 (commit/close 또는 기록 실패) */
+        private boolean done;
+
+        private Recorder(InputStream source, String key, String bidNtceEndDt) throws IOException {
+            super(source);
+            this.key = key;
+            this.tmp = Files.createTempFile(dir, key, ".tmp");
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)));
+            out.writeInt(MAGIC);
+            out.writeLong(System.currentTimeMillis() + ttlFor(bidNtceEndDt));
+            this.gz = new GZIPOutputStream(out, 16 * 1024);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0 && !done) {
+                try {
+                    gz.write(b);
+                } catch (IOException e) {
+                    abandon(e);
+                }
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buf, int off, int len) throws IOException {
+            int n = super.read(buf, off, len);
+            if (n > 0 && !done) {
+                try {
+                    gz.write(buf, off, n);
+                } catch (IOException e) {
+                    abandon(e);
+                }
+            }
+            return n;
+        }
+
+        /*
+        기록 완료 후 캐시에 반영.
+         */
+        public void commit() throws IOException {
+            if (done) return;
+            byte[] buf = new byte[8192];
+            while (read(buf, 0, buf.length) >= 0) {
+                // 파서가 읽지 않은 끝부분까지 기록
+            }
+            if (done) return; // 기록 실패로 이미 버림
+            done = true;
+            try {
+                gz.close();
+                long size = Files.size(tmp);
+                Files.move(tmp, dir.resolve(key + SUFFIX), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                totalBytes.addAndGet(size);
+            } catch (IOException e) {
+                log.log(Level.FINE, "페이지 캐시 저장 실패: " + key, e);
+                deleteQuietly(tmp);
+                return;
+            }
+            evictIfNeeded();
+        }
+
+        /*
+        기록 중 오류 (디스크 부족 등): 응답 읽기는 계속하고 캐시 기록만 포기.
+         */
+        private void abandon(IOException cause) {
+            log.log(Level.FINE, "페이지 캐시 기록 중단: " + key, cause);
+            done = true;
+            try {
+                gz.close();
+            } catch (IOException ignore) {
+                // 이미 실패한 기록
+            }
+            deleteQuietly(tmp);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (!done) {
+                    done = true;
+                    try {
+                        gz.close();
+                    } finally {
+                        deleteQuietly(tmp);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.softbase.nara.cli;
+
+import com.softbase.nara.config.NaraApiConfig;
+import com.softbase.nara.export.BidCsvWriter;
+import com.softbase.nara.metrics.NaraMetrics;
+import com.softbase.nara.service.NaraApiService;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+나라장터 공고 일괄 CSV 저장 (화면 없는 배치/cron용 실행 진입점).
+Swing·AWT 클래스를 전혀 참조하지 않아 서버에서 바로 실행 가능하며, NaraApiService.fetchRange로 받은 페이지를
+도착 순서대로 CSV에 기록(전체 결과를 메모리에 모으지 않음). 진행 상황·처리량·지표는 표준 오류로 출력.
+
+사용법:
+  NaraBatchExport --from 202501010000 --to 202503312359 --out result.csv
+                  [--min-eok 20 | --min-amount 2000000000] [--keywords "ISMP,ISP"] [--type 물품|용역]
+                  [--max-pages-per-shard 100] [--service-key KEY] [--base-url URL] [--metrics text|json] [--quiet]
+  --out - 이면 표준 출력으로 기록. 파일은 같은 디렉터리의 임시 파일에 쓴 뒤 성공했을 때만 --out 이름으로 바꿈
+  (실패한 실행이 기존 파일을 지우거나 잘린 파일을 남기지 않음). 서비스 키는 --service-key > 환경변수 NARA_SERVICE_KEY > NaraApiConfig 순.
+
+종료 코드: 0 성공, 1 예기치 못한 오류, 2 인자 오류, 3 API 호출 실패(오류 결과코드·해석할 수 없는 응답 포함), 4 출력 파일 기록 실패
+ */
+public final class NaraBatchExport {
+
+    static final int EXIT_OK = 0;
+    static final int EXIT_UNEXPECTED = 1;
+    static final int EXIT_USAGE = 2;
+    static final int EXIT_API = 3;
+    static final int EXIT_OUTPUT = 4;
+
+    private static final DateTimeFormatter BID_DT_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+
+    private static final String USAGE = String.join("\n",
+            "사용법: NaraBatchExport --from YYYYMMDDHHMM --to YYYYMMDDHHMM --out FILE|-",
+            "        [--min-eok 억 | --min-amount 원] [--keywords \"키워드1,키워드2\"] [--type 물품|용역]",
+            "        [--max-pages-per-shard N] [--service-key KEY] [--base-url URL] [--metrics text|json] [--quiet]",
+            "종료 코드: 0 성공, 1 예기치 못한 오류, 2 인자 오류, 3 API 호출 실패, 4 출력 파일 기록 실패");
+
+    /** 인자 오류 */
+    private static final class UsageException extends Exception {
+        UsageException(String message) {
+            super(message);
+        }
+    }
+
+    /** 출력 기록 실패 (API 쪽 IOException과 구분하기 위해 감쌈) */
+    private static final class OutputException extends Exception {
+        OutputException(IOException cause) {
+            super(cause.getMessage(), cause);
+        }
+    }
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        System.exit(run(args, System.err));
+    }
+
+    /*
+    인자를 해석해 저장 실행 후 종료 코드 반환
+     */
+    static int run(String[] args, PrintStream err) {
+        Map<String, String> opts;
+        try {
+            opts = parseArgs(args);
+            if (opts.containsKey("help")) {
+                err.println(USAGE);
+                return EXIT_OK;
+            }
+            return export(opts, err);
+        } catch (UsageException e) {
+            err.println("인자 오류: " + e.getMessage());
+            err.println(USAGE);
+            return EXIT_USAGE;
+        } catch (OutputException e) {
+            err.println("출력 기록 실패: " + describe(e));
+            return EXIT_OUTPUT;
+        } catch (IOException e) {
+            // HTTP 오류·연결 실패와 API 오류 응답(NaraApiException: 오류 결과코드·해석할 수 없는 본문)
+            err.println("API 호출 실패: " + describe(e));
+            return EXIT_API;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            err.println("중단됨");
+            return EXIT_UNEXPECTED;
+        } catch (Exception e) {
+            err.println("오류: " + e);
+            return EXIT_UNEXPECTED;
+        }
+    }
+
+    private static int export(Map<String, String> opts, PrintStream err) throws Exception {
+        String from = requireDateTime(opts, "from");
+        String to = requireDateTime(opts, "to");
+        if (LocalDateTime.parse(to, BID_DT_FORMAT).isBefore(LocalDateTime.parse(from, BID_DT_FORMAT))) {
+            throw new UsageException("--to가 --from보다 앞설 수 없습니다.");
+        }
+        String out = opts.get("out");
+        if (out == null || out.isEmpty()) throw new UsageException("--out이 필요합니다.");
+
+        String minAmount = minAmountWon(opts);
+        String keywords = emptyToNull(opts.get("keywords"));
+        String type = emptyToNull(opts.get("type"));
+        if (type != null && !type.equals("물품") && !type.equals("용역")) {
+            throw new UsageException("--type은 물품 또는 용역이어야 합니다: " + type);
+        }
+        int maxPagesPerShard = intOption(opts, "max-pages-per-shard", 100);
+        String metricsFormat = opts.get("metrics");
+        if (metricsFormat != null && !metricsFormat.equals("text") && !metricsFormat.equals("json")) {
+            throw new UsageException("--metrics는 text 또는 json이어야 합니다: " + metricsFormat);
+        }
+        boolean quiet = opts.containsKey("quiet");
+        String serviceKey = opts.getOrDefault("service-key",
+                System.getenv().getOrDefault("NARA_SERVICE_KEY", NaraApiConfig.PersonalAuthKey));
+        // 기본은 실제 API, 테스트 서버 등으로 바꿀 때만 지정
+        String baseUrl = opts.getOrDefault("base-url", NaraApiConfig.BASE_URL);
+
+        long startNanos = System.nanoTime();
+        long[] written = {0};
+        Path target = "-".equals(out) ? null : Path.of(out).toAbsolutePath();
+        Path temp = null;
+        BidCsvWriter csv;
+        try {
+            if (target == null) {
+                csv = new BidCsvWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+            } else {
+                temp = createTempOutput(target);
+                csv = BidCsvWriter.open(temp.toFile());
+            }
+            csv.writeHeader(BidCsvWriter.defaultHeader());
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new OutputException(e);
+        }
+        boolean completed = false;
+        try {
+            NaraApiService.getInstance().fetchRange(
+                    baseUrl, serviceKey, from, to,
+                    minAmount, keywords, type,
+                    maxPagesPerShard, 15_000, 30_000,
+                    (rows, pageIndex, pageCount) -> {
+                        try {
+                            for (int i = 0; i < rows.size(); i++) {
+                                csv.writeRow(rows.get(i), ++written[0]);
+                            }
+                            csv.flush();
+                        } catch (IOException e) {
+                            throw new OutputException(e);
+                        }
+                        if (!quiet) {
+                            err.printf("진행: %d/%d페이지 | %,d건 | %.1f건/s%n", pageIndex + 1, pageCount,
+                                    written[0], written[0] / elapsedSeconds(startNanos));
+                        }
+                    });
+            completed = true;
+        } finally {
+            try {
+                csv.close();
+            } catch (IOException e) {
+                // 수집이 실패한 경우에는 원래 오류를 우선
+                if (completed) {
+                    deleteQuietly(temp);
+                    throw new OutputException(e);
+                }
+            }
+            if (!completed) deleteQuietly(temp);
+        }
+        if (temp != null) {
+            try {
+                moveIntoPlace(temp, target);
+            } catch (IOException e) {
+                deleteQuietly(temp);
+                throw new OutputException(e);
+            }
+        }
+
+        double seconds = elapsedSeconds(startNanos);
+        err.printf("완료: %,d건 | %.1f초 | %.1f건/s | %s%n", written[0], seconds, written[0] / seconds,
+                target == null ? "표준 출력" : target);
+        if ("json".equals(metricsFormat)) {
+            err.println(NaraMetrics.getInstance().snapshot().toJson());
+        } else if ("text".equals(metricsFormat)) {
+            err.print(NaraMetrics.getInstance().snapshot().toText());
+        }
+        return EXIT_OK;
+    }
+
+    /*
+    --out과 같은 디렉터리의 임시 파일 (이름 바꾸기가 같은 파일 시스템 안에서 일어나도록)
+     */
+    private static Path createTempOutput(Path target) throws IOException {
+        Path dir = target.getParent();
+        if (dir != null) Files.createDirectories(dir);
+        return Files.createTempFile(dir, "." + target.getFileName() + ".", ".part");
+    }
+
+    /*
+    완성된 임시 파일을 --out 이름으로 교체 (원자적 이동이 안 되는 파일 시스템이면 일반 교체)
+     */
+    private static void moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) return;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // 임시 파일 삭제 실패는 원래 결과(오류)에 영향 없음
+        }
+    }
+
+    /*
+    "--key value" / "--key=value" / "--flag" 형식 인자 해석
+     */
+    static Map<String, String> parseArgs(String[] args) throws UsageException {
+        Map<String, String> opts = new LinkedHashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            String a = args[i];
+            if (a.equals("-h") || a.equals("--help")) {
+                opts.put("help", "");
+                continue;
+            }
+            if (!a.startsWith("--") || a.length() == 2) throw new UsageException("알 수 없는 인자: " + a);
+            String key = a.substring(2);
+            String value;
+            int eq = key.indexOf('=');
+            if (eq >= 0) {
+                value = key.substring(eq + 1);
+                key = key.substring(0, eq);
+            } else if (key.equals("quiet")) {
+                value = "";
+            } else {
+                if (i + 1 >= args.length) throw new UsageException("--" + key + " 값이 없습니다.");
+                value = args[++i];
+            }
+            switch (key) {
+                case "from", "to", "out", "min-eok", "min-amount", "keywords", "type",
+                     "max-pages-per-shard", "service-key", "base-url", "metrics", "quiet" -> opts.put(key, value);
+                default -> throw new UsageException("알 수 없는 옵션: --" + key);
+            }
+        }
+        return opts;
+    }
+
+    private static String requireDateTime(Map<String, String> opts, String key) throws UsageException {
+        String v = opts.get(key);
+        if (v == null) throw new UsageException("--" + key + "이(가) 필요합니다.");
+        try {
+            LocalDateTime.parse(v, BID_DT_FORMAT);
+        } catch (DateTimeParseException e) {
+            throw new UsageException("--" + key + " 날짜 형식이 올바르지 않습니다. (YYYYMMDDHHMM): " + v);
+        }
+        return v;
+    }
+
+    /*
+    최소 배정예산금액(원). --min-eok(억 단위, 화면과 동일) 또는 --min-amount(원) 중 하나.
+     */
+    private static String minAmountWon(Map<String, String> opts) throws UsageException {
+        String eok = emptyToNull(opts.get("min-eok"));
+        String won = emptyToNull(opts.get("min-amount"));
+        if (eok != null && won != null) throw new UsageException("--min-eok와 --min-amount는 함께 쓸 수 없습니다.");
+        try {
+            if (eok != null) {
+                double v = Double.parseDouble(eok.replace(",", ""));
+                return v <= 0 ? null : String.valueOf(Math.round(v * 100_000_000L));
+            }
+            if (won != null) {
+                return String.valueOf(Long.parseLong(won.replace(",", "")));
+            }
+        } catch (NumberFormatException e) {
+            throw new UsageException("최소 금액이 숫자가 아닙니다: " + (eok != null ? eok : won));
+        }
+        return null;
+    }
+
+    private static int intOption(Map<String, String> opts, String key, int defaultValue) throws UsageException {
+        String v = opts.get(key);
+        if (v == null) return defaultValue;
+        try {
+            int n = Integer.parseInt(v);
+            if (n < 1) throw new NumberFormatException();
+            return n;
+        } catch (NumberFormatException e) {
+            throw new UsageException("--" + key + "은(는) 1 이상의 정수여야 합니다: " + v);
+        }
+    }
+
+    /*
+    오류 메시지 (메시지 없는 예외는 예외 이름)
+     */
+    private static String describe(Exception e) {
+        return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+    }
+
+    private static String emptyToNull(String s) {
+        return (s == null || s.trim().isEmpty()) ? null : s.trim();
+    }
+
+    private static double elapsedSeconds(long startNanos) {
+        return Math.max(1e-3, (System.nanoTime() - startNanos) / 1e9);
+    }
+
+    private NaraBatchExport() {}
+}
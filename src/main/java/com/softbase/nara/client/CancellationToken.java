@@ -0,0 +1,124 @@
+package com.softbase.nara.client;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 조회·저장 작업 1건의 협력적 취소 신호.
+ * cancel()을 한 번 호출하면 취소 상태가 되고, 등록된 취소 동작(진행 중 HTTP 요청 취소, 스트림 닫기, 대기 스레드 깨우기 등)을
+ * 한 번씩 실행함. 작업 쪽은 isCancelled()/throwIfCancelled()로 확인하거나 sleep()으로 취소 가능한 대기를 함.
+ * 취소는 CancellationException으로 전달됨. 스레드 안전.
+ * (가상 스레드에서 대기해도 캐리어 스레드를 점유하지 않도록 synchronized 대신 ReentrantLock 사용)
+ */
+public final class CancellationToken {
+
+    /** 취소되지 않는 토큰 (취소 기능이 필요 없는 호출용) */
+    public static final CancellationToken NONE = new CancellationToken();
+
+    /** 취소 동작 등록 해제용 */
+    public interface Registration extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition cancelledCondition = lock.newCondition();
+    private final Set<Runnable> callbacks = new LinkedHashSet<>();
+    private volatile boolean cancelled;
+
+    /*
+    취소 요청. 등록된 취소 동작은 호출 스레드에서 바로 실행되며, 두 번째 호출부터는 아무 일도 하지 않음.
+     */
+    public void cancel() {
+        if (this == NONE) throw new UnsupportedOperationException("CancellationToken.NONE은 취소할 수 없습니다.");
+        lock.lock();
+        try {
+            if (cancelled) return;
+            cancelled = true;
+            List<Runnable> toRun = new ArrayList<>(callbacks);
+            callbacks.clear();
+            // sleep() 중인 스레드 깨우기
+            cancelledCondition.signalAll();
+            // 등록 해제(close)와 겹치지 않도록 잠금 안에서 실행 (close가 반환된 뒤에는 동작이 실행되지 않음 보장)
+            for (Runnable r : toRun) {
+                try {
+                    r.run();
+                } catch (RuntimeException ignored) {
+                    // 취소 동작 하나의 실패가 나머지 동작을 막지 않도록 무시
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /*
+    취소되었으면 CancellationException
+     */
+    public void throwIfCancelled() {
+        if (cancelled) throw new CancellationException("작업이 취소되었습니다.");
+    }
+
+    /*
+    취소 시 실행할 동작 등록. 이미 취소되었으면 바로 실행.
+    반환된 Registration을 닫으면 등록 해제 (작업이 정상 종료된 뒤에는 반드시 닫을 것).
+     */
+    public Registration onCancel(Runnable action) {
+        lock.lock();
+        try {
+            if (!cancelled) {
+                callbacks.add(action);
+                return () -> {
+                    lock.lock();
+                    try {
+                        callbacks.remove(action);
+                    } finally {
+                        lock.unlock();
+                    }
+                };
+            }
+        } finally {
+            lock.unlock();
+        }
+        action.run();
+        return () -> { };
+    }
+
+    /*
+    취소 가능한 대기. 시간이 다 되면 정상 반환, 그 전에 취소되면 CancellationException.
+     */
+    public void sleep(long millis) throws InterruptedException {
+        sleepNanos(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    public void sleepNanos(long nanos) throws InterruptedException {
+        if (nanos <= 0) {
+            throwIfCancelled();
+            return;
+        }
+        if (this == NONE) {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+            return;
+        }
+        lock.lock();
+        try {
+            long remain = nanos;
+            while (!cancelled && remain > 0) {
+                remain = cancelledCondition.awaitNanos(remain);
+            }
+        } finally {
+            lock.unlock();
+        }
+        throwIfCancelled();
+    }
+}
@@ -0,0 +1,80 @@
+package com.softbase.nara.client;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/*
+응답 본문 전송 압축(Content-Encoding) 해제.
+gzip/deflate는 스트림으로 풀면서 읽으므로 본문 전체를 메모리에 올리지 않음.
+헤더가 없거나 identity면 원본 그대로 (서버가 Accept-Encoding을 무시한 경우).
+ */
+final class ContentDecoding {
+
+    /** 요청 시 보내는 Accept-Encoding 값 */
+    static final String ACCEPT_ENCODING = "gzip, deflate";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    /*
+    Content-Encoding에 맞게 압축 해제 스트림으로 감싸서 반환. 지원하지 않는 인코딩이면 IOException.
+     */
+    static InputStream decode(InputStream in, String contentEncoding) throws IOException {
+        String enc = contentEncoding == null ? "" : contentEncoding.trim().toLowerCase(Locale.ROOT);
+        switch (enc) {
+            case "", "identity":
+                return in;
+            case "gzip", "x-gzip":
+                return new GZIPInputStream(in, BUFFER_SIZE);
+            case "deflate":
+                return inflate(in);
+            default:
+                in.close();
+                throw new IOException("지원하지 않는 Content-Encoding: " + contentEncoding);
+        }
+    }
+
+    /*
+    byte[] 본문 압축 해제 (문자열 응답용)
+     */
+    static byte[] decode(byte[] body, String contentEncoding) throws IOException {
+        if (contentEncoding == null || contentEncoding.isBlank() || contentEncoding.equalsIgnoreCase("identity")) {
+            return body;
+        }
+        try (InputStream in = decode(new ByteArrayInputStream(body), contentEncoding)) {
+            return in.readAllBytes();
+        }
+    }
+
+    /*
+    deflate는 원래 zlib 형식(RFC 1950)이지만 헤더 없는 raw deflate를 보내는 서버도 있어
+    첫 2바이트로 zlib 헤더 여부를 판별해서 Inflater를 선택.
+     */
+    private static InputStream inflate(InputStream in) throws IOException {
+        BufferedInputStream bin = new BufferedInputStream(in, BUFFER_SIZE);
+        bin.mark(2);
+        int cmf = bin.read();
+        int flg = bin.read();
+        bin.reset();
+        boolean zlib = cmf >= 0 && flg >= 0 && (cmf & 0x0F) == 8 && ((cmf << 8) | flg) % 31 == 0;
+        Inflater inflater = new Inflater(!zlib);
+        // 직접 만든 Inflater는 InflaterInputStream.close()가 해제하지 않으므로 닫을 때 함께 해제
+        return new InflaterInputStream(bin, inflater, BUFFER_SIZE) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    inflater.end();
+                }
+            }
+        };
+    }
+
+    private ContentDecoding() {}
+}
@@ -1,22 +1,70 @@
 package com.softbase.nara.client;
 
+import com.softbase.nara.metrics.NaraMetrics;
+
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.util.logging.Logger;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.LongConsumer;
 
 /*
 나라장터 API HTTP 호출 전담.
 역할: URL 조립, 요청 전송, 응답 본문 문자열 반환만 담당.
 비즈니스 로직·파싱은 Service 계층에서 처리.
+HttpClient는 연결 타임아웃별로 1개만 만들어 재사용 (커넥션 풀·TLS 세션·HTTP/2 다중화 공유).
+응답은 gzip/deflate 전송 압축을 요청하고(Accept-Encoding), Content-Encoding에 따라 읽으면서 해제.
+CancellationToken을 받는 호출은 취소 시 진행 중인 HTTP 교환을 중단하고 CancellationException을 던짐.
  */
 public final class NaraApiClient {
 
-    private static final Logger log = Logger.getLogger(NaraApiClient.class.getName());
+    /** 단계별 지표 (HTTP 응답 대기 시간·상태 코드·수신 바이트) */
+    private final NaraMetrics metrics = NaraMetrics.getInstance();
+
+    /** 연결 타임아웃(ms) → 공유 HttpClient */
+    private final Map<Integer, HttpClient> clients = new ConcurrentHashMap<>();
+
+    /** HttpClient 비동기 처리용 Executor (null이면 JDK 기본 Executor 사용) */
+    private volatile Executor executor;
+
+    /** 전송 압축(gzip/deflate) 요청 여부 */
+    private volatile boolean compression = true;
+
+    /*
+    전송 압축 요청 on/off (서버·프록시가 압축 응답을 잘못 처리할 때 끄기 위함)
+     */
+    public void setCompression(boolean compression) {
+        this.compression = compression;
+    }
+
+    public boolean isCompression() {
+        return compression;
+    }
+
+    /*
+    HttpClient가 사용할 Executor 지정.
+    이미 만들어진 클라이언트는 목록에서 빼고 종료(shutdown: 진행 중인 교환은 마저 끝내고 연결·선택자 스레드 정리),
+    다음 호출부터 새 Executor로 다시 생성.
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+        for (Integer connTimeoutMs : clients.keySet()) {
+            HttpClient dropped = clients.remove(connTimeoutMs);
+            if (dropped != null) dropped.shutdown();
+        }
+    }
 
     /*
     GET 요청으로 API를 호출하고 응답 본문(JSON 문자열)을 반환.
@@ -35,13 +83,171 @@ public final class NaraApiClient {
             int connTimeoutMs,          // 연결 타임아웃(ms)
             int requestTimeoutMs        // 요청 타임아웃(ms)
     ) throws IOException, InterruptedException {
+        return get(baseUrl, serviceKey, numOfRows, pageNo, bidNtceBgnDt, bidNtceEndDt, type,
+                connTimeoutMs, requestTimeoutMs, CancellationToken.NONE);
+    }
+
+    /*
+    get()의 취소 가능 버전. cancel이 취소되면 응답 대기를 중단하고 CancellationException.
+     */
+    public String get(
+            String baseUrl,
+            String serviceKey,
+            String numOfRows,
+            String pageNo,
+            String bidNtceBgnDt,
+            String bidNtceEndDt,
+            String type,
+            int connTimeoutMs,
+            int requestTimeoutMs,
+            CancellationToken cancel
+    ) throws IOException, InterruptedException {
+
+        HttpRequest request = buildRequest(baseUrl, serviceKey, numOfRows, pageNo,
+                bidNtceBgnDt, bidNtceEndDt, type, requestTimeoutMs);
+
+        long startNanos = System.nanoTime();
+        // API 호출 및 응답 처리 (받은 바이트 수 집계·압축 해제를 위해 byte[]로 받은 뒤 문자열 변환)
+        HttpResponse<byte[]> response = send(request, HttpResponse.BodyHandlers.ofByteArray(), connTimeoutMs, cancel);
+        metrics.recordHttp(response.statusCode(), System.nanoTime() - startNanos);
+
+        return checkStatus(response);
+    }
+
+    /*
+    GET 요청으로 API를 호출하고 응답 본문을 문자열로 버퍼링하지 않고 InputStream 그대로 반환.
+    스트리밍 파서(NaraStreamingParser)에 바로 연결하기 위한 용도. 반환된 스트림은 호출자가 닫아야 함.
+     */
+    public InputStream getStream(
+            String baseUrl,
+            String serviceKey,
+            String numOfRows,
+            String pageNo,
+            String bidNtceBgnDt,
+            String bidNtceEndDt,
+            String type,
+            int connTimeoutMs,
+            int requestTimeoutMs
+    ) throws IOException, InterruptedException {
+        return getStream(baseUrl, serviceKey, numOfRows, pageNo, bidNtceBgnDt, bidNtceEndDt, type,
+                connTimeoutMs, requestTimeoutMs, CancellationToken.NONE);
+    }
+
+    /*
+    getStream()의 취소 가능 버전. 헤더 수신 전 취소되면 HTTP 교환을 중단하고,
+    본문을 읽는 중 취소되면 다음 read()에서 CancellationException (스트림은 호출자가 닫아야 함).
+     */
+    public InputStream getStream(
+            String baseUrl,
+            String serviceKey,
+            String numOfRows,
+            String pageNo,
+            String bidNtceBgnDt,
+            String bidNtceEndDt,
+            String type,
+            int connTimeoutMs,
+            int requestTimeoutMs,
+            CancellationToken cancel
+    ) throws IOException, InterruptedException {
+
+        HttpRequest request = buildRequest(baseUrl, serviceKey, numOfRows, pageNo,
+                bidNtceBgnDt, bidNtceEndDt, type, requestTimeoutMs);
 
-        // HTTP 클라이언트 생성 (연결 타임아웃 설정)
-        HttpClient client = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofMillis(connTimeoutMs))
-                .build();
+        long startNanos = System.nanoTime();
+        HttpResponse<InputStream> response = send(request, HttpResponse.BodyHandlers.ofInputStream(), connTimeoutMs, cancel);
+        // 스트림 응답은 헤더 수신까지를 응답 대기 시간으로 기록 (본문은 파서가 읽으면서 수신)
+        metrics.recordHttp(response.statusCode(), System.nanoTime() - startNanos);
 
-        // API URL 쿼리스트링 조합 (기본 End Point URL + 파라미터)
+        // 수신(압축) 바이트 → 압축 해제 → 해제 후 바이트 순으로 집계하며 읽는 스트림
+        InputStream wire = new CountingInputStream(response.body(), metrics::addBytesReceived);
+        InputStream body;
+        try {
+            body = new CountingInputStream(
+                    ContentDecoding.decode(wire, response.headers().firstValue("Content-Encoding").orElse(null)),
+                    metrics::addBytesDecoded);
+        } catch (IOException e) {
+            wire.close();
+            throw e;
+        }
+
+        // 응답 상태 코드 확인 (200 OK 아니면 본문을 읽어 예외 메시지에 포함)
+        if (response.statusCode() != 200) {
+            String text;
+            try (InputStream in = body) {
+                text = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            throw new NaraHttpException(response.statusCode(), NaraHttpException.parseRetryAfter(response.headers()), text);
+        }
+        return cancel == CancellationToken.NONE ? body : new CancellableInputStream(body, cancel);
+    }
+
+    /*
+    get()의 비동기 버전. 요청 스레드를 막지 않고 CompletableFuture로 응답 본문을 반환.
+    200 OK가 아니면 NaraHttpException(CompletionException으로 감싸서)으로 완료됨.
+     */
+    public CompletableFuture<String> getAsync(
+            String baseUrl,
+            String serviceKey,
+            String numOfRows,
+            String pageNo,
+            String bidNtceBgnDt,
+            String bidNtceEndDt,
+            String type,
+            int connTimeoutMs,
+            int requestTimeoutMs
+    ) {
+        HttpRequest request = buildRequest(baseUrl, serviceKey, numOfRows, pageNo,
+                bidNtceBgnDt, bidNtceEndDt, type, requestTimeoutMs);
+
+        long startNanos = System.nanoTime();
+        return sharedClient(connTimeoutMs)
+                .sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, error) -> {
+                    if (error != null) metrics.recordHttpError();
+                })
+                .thenApply(response -> {
+                    metrics.recordHttp(response.statusCode(), System.nanoTime() - startNanos);
+                    try {
+                        return checkStatus(response);
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                });
+    }
+
+    /*
+    요청 전송 후 응답(헤더) 수신까지 대기. sendAsync로 보내고 취소 시 CompletableFuture를 취소해 HTTP 교환을 중단.
+    대기 중 인터럽트되어도 교환을 중단함. 연결 실패·타임아웃은 NaraMetrics.httpErrors로 집계 (취소는 제외).
+     */
+    private <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler,
+                                     int connTimeoutMs, CancellationToken cancel)
+            throws IOException, InterruptedException {
+        cancel.throwIfCancelled();
+        CompletableFuture<HttpResponse<T>> future = sharedClient(connTimeoutMs).sendAsync(request, handler);
+        try (CancellationToken.Registration r = cancel.onCancel(() -> future.cancel(true))) {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            throw e;
+        } catch (CancellationException e) {
+            throw new CancellationException("작업이 취소되었습니다.");
+        } catch (ExecutionException e) {
+            // 취소로 교환이 중단되면 IOException으로 끝나는 경우도 있어 취소 여부를 먼저 확인
+            cancel.throwIfCancelled();
+            metrics.recordHttpError();
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) throw io;
+            if (cause instanceof RuntimeException re) throw re;
+            throw new IOException(cause);
+        }
+    }
+
+    /*
+    API URL 쿼리스트링 조합 후 HTTP 요청 생성 (URI, 타임아웃, 헤더)
+     */
+    private HttpRequest buildRequest(String baseUrl, String serviceKey, String numOfRows, String pageNo,
+                                     String bidNtceBgnDt, String bidNtceEndDt, String type,
+                                     int requestTimeoutMs) {
         String apiUrl = baseUrl
                 + "?numOfRows=" + numOfRows
                 + "&pageNo=" + pageNo
@@ -50,28 +256,96 @@ public final class NaraApiClient {
                 + "&ServiceKey=" + serviceKey
                 + "&type=" + type;
 
-        // HTTP 요청 생성 (URI, 타임아웃, 헤더)
-        HttpRequest request = HttpRequest.newBuilder()
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
                 .uri(URI.create(apiUrl))
                 .timeout(Duration.ofMillis(requestTimeoutMs))
-                .header("Accept", "application/json")
-                .GET()
-                .build();
+                .header("Accept", "application/json");
+        if (compression) builder.header("Accept-Encoding", ContentDecoding.ACCEPT_ENCODING);
+        return builder.GET().build();
+    }
 
-        long startMs = System.currentTimeMillis();
-        // API 호출 및 응답 처리
-        HttpResponse<String> response =
-                client.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
-        long elapsedMs = System.currentTimeMillis() - startMs;
+    /*
+    수신 바이트 집계 + 압축 해제 후 응답 상태 코드 확인 (200 OK 아니면 예외 발생)
+     */
+    private String checkStatus(HttpResponse<byte[]> response) throws IOException {
+        metrics.addBytesReceived(response.body().length);
+        byte[] decoded = ContentDecoding.decode(response.body(),
+                response.headers().firstValue("Content-Encoding").orElse(null));
+        metrics.addBytesDecoded(decoded.length);
+        String body = new String(decoded, StandardCharsets.UTF_8);
+        if (response.statusCode() != 200) {
+            throw new NaraHttpException(response.statusCode(), NaraHttpException.parseRetryAfter(response.headers()), body);
+        }
+        return body;
+    }
 
-        log.info(String.format("[시간측정] HTTP get | pageNo=%s | %d ms", pageNo, elapsedMs));
+    /**
+     * 읽은 바이트 수를 지표(수신 바이트 또는 압축 해제 후 바이트)에 더하는 응답 본문 스트림.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
 
-        // 응답 상태 코드 확인 (200 OK 아니면 예외 발생)
-        if (response.statusCode() != 200) {
-            throw new IOException("HTTP " + response.statusCode() + " / body = " + response.body());
+        private final LongConsumer counter;
+
+        CountingInputStream(InputStream in, LongConsumer counter) {
+            super(in);
+            this.counter = counter;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) counter.accept(1);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) counter.accept(n);
+            return n;
         }
+    }
+
+    /**
+     * 읽기 전마다 취소 여부를 확인하는 응답 본문 스트림.
+     * 다른 스레드에서 스트림을 닫지 않고 읽는 쪽이 다음 read()에서 멈추도록 해서, 닫힌 스트림에서 읽기가 멈춰 있는 상황을 피함.
+     */
+    private static final class CancellableInputStream extends FilterInputStream {
+
+        private final CancellationToken cancel;
 
-        return response.body();
+        CancellableInputStream(InputStream in, CancellationToken cancel) {
+            super(in);
+            this.cancel = cancel;
+        }
+
+        @Override
+        public int read() throws IOException {
+            cancel.throwIfCancelled();
+            return super.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            cancel.throwIfCancelled();
+            return super.read(b, off, len);
+        }
+    }
+
+    /*
+    연결 타임아웃별 공유 HttpClient 반환 (없으면 생성).
+    HTTP/2 우선 협상, 서버가 지원하지 않으면 HTTP/1.1 keep-alive로 자동 전환.
+     */
+    private HttpClient sharedClient(int connTimeoutMs) {
+        return clients.computeIfAbsent(connTimeoutMs, ms -> {
+            HttpClient.Builder builder = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_2)
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    .connectTimeout(Duration.ofMillis(ms));
+            Executor ex = executor;
+            if (ex != null) builder.executor(ex);
+            return builder.build();
+        });
     }
 
     private NaraApiClient() {}
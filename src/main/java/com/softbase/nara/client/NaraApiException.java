@@ -0,0 +1,47 @@
+package com.softbase.nara.client;
+
+import java.io.IOException;
+
+/**
+ * HTTP 200으로 받았지만 API가 정상 처리하지 않은 응답.
+ * - 결과코드(resultCode)가 00(정상)·03(데이터 없음)이 아닌 응답 (인증키 오류·호출 한도 초과 등)
+ * - JSON으로 해석할 수 없는 본문 (공공데이터포털이 보내는 XML 오류 응답 OpenAPI_ServiceResponse 등)
+ * 빈 결과로 넘기면 0건 조회와 구분되지 않으므로 예외로 전달.
+ */
+public final class NaraApiException extends IOException {
+
+    /** 결과코드 (본문을 해석할 수 없었으면 null) */
+    private final String resultCode;
+
+    public NaraApiException(String resultCode, String resultMsg) {
+        super("API 오류 응답 / resultCode = " + resultCode + ", resultMsg = " + resultMsg);
+        this.resultCode = resultCode;
+    }
+
+    public NaraApiException(String message, Throwable cause) {
+        super(message, cause);
+        this.resultCode = null;
+    }
+
+    public String resultCode() {
+        return resultCode;
+    }
+
+    /*
+    정상으로 볼 결과코드 (00 정상, 03 데이터 없음)
+     */
+    public static boolean isOk(String resultCode) {
+        return "00".equals(resultCode) || "03".equals(resultCode);
+    }
+
+    /*
+    다시 보내면 성공할 수 있는 서버 측 일시 오류 (01 애플리케이션, 02 DB, 04 HTTP, 05 서비스 타임아웃, 99 기타)
+     */
+    public boolean isTransient() {
+        if (resultCode == null) return false;
+        switch (resultCode) {
+            case "01": case "02": case "04": case "05": case "99": return true;
+            default: return false;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.softbase.nara.client;
+
+import java.io.IOException;
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 200 OK가 아닌 HTTP 응답. 상태 코드와 Retry-After(있으면)를 담아 호출 측이 재시도·동시성 조절에 사용.
+ * 메시지 형식은 기존과 동일("HTTP 코드 / body = 본문").
+ */
+public final class NaraHttpException extends IOException {
+
+    private final int statusCode;
+    /** Retry-After 헤더 값(ms), 없거나 해석할 수 없으면 -1 */
+    private final long retryAfterMillis;
+
+    public NaraHttpException(int statusCode, long retryAfterMillis, String body) {
+        super("HTTP " + statusCode + " / body = " + body);
+        this.statusCode = statusCode;
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public int statusCode() {
+        return statusCode;
+    }
+
+    public long retryAfterMillis() {
+        return retryAfterMillis;
+    }
+
+    /*
+    서버 과부하·한도 초과 응답 (429 Too Many Requests, 503 Service Unavailable)
+     */
+    public boolean isThrottled() {
+        return statusCode == 429 || statusCode == 503;
+    }
+
+    /*
+    다시 시도해도 결과가 같은 오류 (408/429를 제외한 4xx)
+     */
+    public boolean isClientError() {
+        return statusCode >= 400 && statusCode < 500 && statusCode != 408 && statusCode != 429;
+    }
+
+    /*
+    Retry-After 헤더 해석 (초 단위 정수 또는 HTTP-date). 없으면 -1.
+     */
+    static long parseRetryAfter(HttpHeaders headers) {
+        String v = headers.firstValue("Retry-After").orElse(null);
+        if (v == null || v.isBlank()) return -1;
+        v = v.trim();
+        try {
+            return Math.max(0, Long.parseLong(v) * 1000);
+        } catch (NumberFormatException ignored) {
+            // HTTP-date 형식
+        }
+        try {
+            ZonedDateTime at = ZonedDateTime.parse(v, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, Duration.between(ZonedDateTime.now(at.getZone()), at).toMillis());
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.softbase.nara.dto;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -16,6 +17,12 @@ public final class BidItemColumn {
             "ntceInsttNm", "dmndInsttNm", "asignBdgtAmt", "presmptPrce", "bidNtceUrl"
     );
 
+    /** 매칭키워드 (API 필드 아님: 공고명에 포함된 검색어 목록, 조회 시 계산) */
+    public static final String MATCHED_KEYWORDS = "matchedKeywords";
+
+    /** 그리드·CSV 컬럼 키 목록 (API 필드 + 계산 컬럼, 순서 유지) */
+    public static final List<String> GRID_KEY_LIST = concat(KEY_LIST, List.of(MATCHED_KEYWORDS));
+
     /** API 필드 키 → 한글 컬럼명 (테이블 헤더/CSV 헤더용) */
     public static final Map<String, String> KEY_TO_DISPLAY_NAME = Map.ofEntries(
             Map.entry("bidNtceNo", "입찰공고번호"),
@@ -33,8 +40,15 @@ public final class BidItemColumn {
             Map.entry("dmndInsttNm", "수요기관명"),
             Map.entry("asignBdgtAmt", "배정예산금액(설계금액)"),
             Map.entry("presmptPrce", "추정가격"),
-            Map.entry("bidNtceUrl", "입찰공고URL")
+            Map.entry("bidNtceUrl", "입찰공고URL"),
+            Map.entry(MATCHED_KEYWORDS, "매칭키워드")
     );
 
+    private static List<String> concat(List<String> a, List<String> b) {
+        List<String> all = new ArrayList<>(a);
+        all.addAll(b);
+        return List.copyOf(all);
+    }
+
     private BidItemColumn() {}
 }
@@ -0,0 +1,231 @@
+package com.softbase.nara.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 나라장터 입찰 공고 1건 (그리드 행 모델).
+ * 컬럼 순서는 BidItemColumn.GRID_KEY_LIST와 동일. 금액은 long, 일자·시각은 파싱된 값으로 보관하고
+ * 화면/CSV용 문자열은 cell()에서 필요할 때만 만듦. 순번은 저장하지 않고 목록 위치로 계산.
+ * 일자·시각·금액 값이 있는데 형식이 달라 해석하지 못하면 원본 문자열을 unparsed에 남겨 cell()에서 그대로 보여 줌.
+ */
+public record BidNotice(
+        String bidNtceNo,           // 입찰공고번호
+        String bidNtceOrd,          // 입찰공고차수
+        String refNtceNo,           // 참조공고번호
+        String ppsNtceYn,           // 나라장터공고여부
+        String bidNtceNm,           // 입찰공고명
+        String bidNtceSttusNm,      // 입찰공고상태명
+        LocalDate bidNtceDate,      // 입찰공고일자 (없으면 null)
+        LocalTime bidNtceBgn,       // 입찰공고시각 (없으면 null)
+        String bsnsDivNm,           // 업무구분명
+        String cntrctCnclsSttusNm,  // 계약체결상태명
+        String cntrctCnclsMthdNm,   // 계약체결방법명
+        String ntceInsttNm,         // 공고기관명
+        String dmndInsttNm,         // 수요기관명
+        long asignBdgtAmt,          // 배정예산금액(설계금액) (없으면 NO_AMOUNT)
+        long presmptPrce,           // 추정가격 (없으면 NO_AMOUNT)
+        String bidNtceUrl,          // 입찰공고URL
+        String matchedKeywords,     // 매칭키워드 (공고명에 포함된 검색어, 검색어 조건 없으면 "")
+        Unparsed unparsed           // 해석하지 못한 원본 값 (모두 해석되었으면 null)
+) {
+
+    /** 금액 값 없음(빈 값·숫자 아님) 표시 */
+    public static final long NO_AMOUNT = Long.MIN_VALUE;
+
+    /**
+     * 값이 있는데 해석하지 못한 일자·시각·금액의 API 원본 문자열 (해석된 필드·빈 값은 null).
+     * 해석 값(null, NO_AMOUNT)은 그대로 두므로 조건·집계에서는 값 없음으로 다루고, 표시만 원본으로 함.
+     */
+    public record Unparsed(String bidNtceDate, String bidNtceBgn, String asignBdgtAmt, String presmptPrce) {
+
+        /** encode() 필드 구분 문자 */
+        private static final char SEP = '\u001F';
+
+        /*
+        원본 값 4개 중 해석 실패한 것만 남긴 값 (실패가 없으면 null)
+         */
+        static Unparsed of(String bidNtceDate, String bidNtceBgn, String asignBdgtAmt, String presmptPrce) {
+            if (bidNtceDate == null && bidNtceBgn == null && asignBdgtAmt == null && presmptPrce == null) return null;
+            return new Unparsed(bidNtceDate, bidNtceBgn, asignBdgtAmt, presmptPrce);
+        }
+
+        /*
+        문자열 1개로 직렬화 (결과 보관 파일용, null 필드는 빈 문자열)
+         */
+        public String encode() {
+            return nz(bidNtceDate) + SEP + nz(bidNtceBgn) + SEP + nz(asignBdgtAmt) + SEP + nz(presmptPrce);
+        }
+
+        /*
+        encode() 결과 복원 (null이면 null)
+         */
+        public static Unparsed decode(String encoded) {
+            if (encoded == null) return null;
+            String[] f = encoded.split(String.valueOf(SEP), -1);
+            return of(ez(f[0]), ez(f[1]), ez(f[2]), ez(f[3]));
+        }
+
+        private static String nz(String s) {
+            return s == null ? "" : s;
+        }
+
+        private static String ez(String s) {
+            return s.isEmpty() ? null : s;
+        }
+    }
+
+    /*
+    KEY_LIST 순서의 API 문자열 값 배열로 생성.
+     */
+    public static BidNotice fromValues(String[] v) {
+        return fromValues(v, "");
+    }
+
+    /*
+    KEY_LIST 순서의 API 문자열 값 배열 + 매칭키워드로 생성.
+    반복되는 값(나라장터공고여부·상태명·업무구분명·계약 관련·기관명)은 NoticeDictionary의 대표 인스턴스로 바꿔서 보관.
+     */
+    public static BidNotice fromValues(String[] v, String matchedKeywords) {
+        NoticeDictionary dict = NoticeDictionary.getInstance();
+        LocalDate date = parseDate(v[6]);
+        LocalTime time = parseTime(v[7]);
+        long asignBdgtAmt = parseAmount(v[13]);
+        long presmptPrce = parseAmount(v[14]);
+        return new BidNotice(
+                v[0], v[1], v[2],
+                dict.canonical(NoticeDictionary.Field.PPS_NTCE_YN, v[3]),
+                v[4],
+                dict.canonical(NoticeDictionary.Field.BID_NTCE_STTUS_NM, v[5]),
+                date, time,
+                dict.canonical(NoticeDictionary.Field.BSNS_DIV_NM, v[8]),
+                dict.canonical(NoticeDictionary.Field.CNTRCT_CNCLS_STTUS_NM, v[9]),
+                dict.canonical(NoticeDictionary.Field.CNTRCT_CNCLS_MTHD_NM, v[10]),
+                dict.canonical(NoticeDictionary.Field.NTCE_INSTT_NM, v[11]),
+                dict.canonical(NoticeDictionary.Field.DMND_INSTT_NM, v[12]),
+                asignBdgtAmt, presmptPrce,
+                v[15],
+                matchedKeywords,
+                Unparsed.of(
+                        date == null ? nonBlank(v[6]) : null,
+                        time == null ? nonBlank(v[7]) : null,
+                        asignBdgtAmt == NO_AMOUNT ? nonBlank(v[13]) : null,
+                        presmptPrce == NO_AMOUNT ? nonBlank(v[14]) : null)
+        );
+    }
+
+    /*
+    매칭키워드만 바꾼 행 (같으면 자기 자신). 보관해 둔 원본 행에 다른 검색어 조건을 적용할 때 사용.
+     */
+    public BidNotice withMatchedKeywords(String matched) {
+        if (matched.equals(matchedKeywords)) return this;
+        return new BidNotice(bidNtceNo, bidNtceOrd, refNtceNo, ppsNtceYn, bidNtceNm, bidNtceSttusNm,
+                bidNtceDate, bidNtceBgn, bsnsDivNm, cntrctCnclsSttusNm, cntrctCnclsMthdNm,
+                ntceInsttNm, dmndInsttNm, asignBdgtAmt, presmptPrce, bidNtceUrl, matched, unparsed);
+    }
+
+    /*
+    GRID_KEY_LIST 인덱스 기준 화면/CSV 표시 문자열 반환 (금액은 천단위 구분, 해석하지 못한 값은 원본 그대로).
+     */
+    public String cell(int keyIndex) {
+        switch (keyIndex) {
+            case 0: return bidNtceNo;
+            case 1: return bidNtceOrd;
+            case 2: return refNtceNo;
+            case 3: return ppsNtceYn;
+            case 4: return bidNtceNm;
+            case 5: return bidNtceSttusNm;
+            case 6: return bidNtceDate != null ? bidNtceDate.toString() : raw(unparsed == null ? null : unparsed.bidNtceDate());
+            case 7: return bidNtceBgn != null ? formatTime(bidNtceBgn) : raw(unparsed == null ? null : unparsed.bidNtceBgn());
+            case 8: return bsnsDivNm;
+            case 9: return cntrctCnclsSttusNm;
+            case 10: return cntrctCnclsMthdNm;
+            case 11: return ntceInsttNm;
+            case 12: return dmndInsttNm;
+            case 13: return asignBdgtAmt != NO_AMOUNT ? formatAmount(asignBdgtAmt) : raw(unparsed == null ? null : unparsed.asignBdgtAmt());
+            case 14: return presmptPrce != NO_AMOUNT ? formatAmount(presmptPrce) : raw(unparsed == null ? null : unparsed.presmptPrce());
+            case 15: return bidNtceUrl;
+            case 16: return matchedKeywords;
+            default: throw new IndexOutOfBoundsException("컬럼 인덱스 범위 초과: " + keyIndex);
+        }
+    }
+
+    /*
+    금액 문자열(쉼표 허용)을 long으로 변환. 빈 값·숫자 아님은 NO_AMOUNT.
+     */
+    public static long parseAmount(String value) {
+        if (value == null) return NO_AMOUNT;
+        String num = value.replace(",", "").trim();
+        if (num.isEmpty()) return NO_AMOUNT;
+        try {
+            return Long.parseLong(num);
+        } catch (NumberFormatException e) {
+            return NO_AMOUNT;
+        }
+    }
+
+    /*
+    금액 형식 변환 (NO_AMOUNT는 빈 문자열)
+     */
+    public static String formatAmount(long amount) {
+        return amount == NO_AMOUNT ? "" : String.format("%,d", amount);
+    }
+
+    /*
+    일자 문자열 파싱. "yyyy-MM-dd", "yyyyMMdd", "yyyy/MM/dd" 등 숫자 정확히 8자리로 환원되는 형식 지원.
+    해석 불가하면 null (시각이 붙은 값처럼 숫자가 더 있으면 일부를 버리지 않고 해석 불가로 보고 원본을 Unparsed에 남김).
+     */
+    static LocalDate parseDate(String value) {
+        String d = digitsOf(value);
+        if (d.length() != 8) return null;
+        try {
+            return LocalDate.of(Integer.parseInt(d.substring(0, 4)),
+                    Integer.parseInt(d.substring(4, 6)),
+                    Integer.parseInt(d.substring(6, 8)));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /*
+    시각 문자열 파싱. "HH:mm", "HHmm", "HH:mm:ss" 지원. 해석 불가하면 null.
+     */
+    static LocalTime parseTime(String value) {
+        String d = digitsOf(value);
+        if (d.length() != 4 && d.length() != 6) return null;
+        try {
+            int sec = d.length() == 6 ? Integer.parseInt(d.substring(4, 6)) : 0;
+            return LocalTime.of(Integer.parseInt(d.substring(0, 2)), Integer.parseInt(d.substring(2, 4)), sec);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /*
+    시각 표시 ("HH:mm", 초가 있으면 "HH:mm:ss")
+     */
+    private static String formatTime(LocalTime t) {
+        if (t == null) return "";
+        return t.getSecond() == 0
+                ? String.format("%02d:%02d", t.getHour(), t.getMinute())
+                : String.format("%02d:%02d:%02d", t.getHour(), t.getMinute(), t.getSecond());
+    }
+
+    private static String raw(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static String nonBlank(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private static String digitsOf(String value) {
+        if (value == null) return "";
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') sb.append(c);
+        }
+        return sb.toString();
+    }
+}
@@ -1,7 +1,6 @@
 package com.softbase.nara.dto;
 
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 
 /**
@@ -20,10 +19,28 @@ public final class GridResult {
     public long pageNo;
     /** 전체 결과 수 */
     public long totalCount;
-    /** 그리드에 표시할 결과 목록 (컬럼 키 → 값) */
-    public final List<LinkedHashMap<String, String>> rows = new ArrayList<>();
+    /** 이 페이지의 API 원본 item 수 (필터 적용 전) */
+    public int rawCount;
+    /** 그리드에 표시할 결과 목록 (순번은 목록 위치 + 1) */
+    public final List<BidNotice> rows = new ArrayList<>();
 
     public GridResult() {
         // 기본 생성자
     }
+
+    /*
+    메타와 행 목록을 복사한 새 결과 (행(BidNotice)은 불변이라 그대로 공유).
+    캐시에 보관한 결과를 호출자가 수정해도 캐시가 바뀌지 않도록 할 때 사용.
+     */
+    public GridResult copy() {
+        GridResult c = new GridResult();
+        c.resultCode = resultCode;
+        c.resultMsg = resultMsg;
+        c.numOfRows = numOfRows;
+        c.pageNo = pageNo;
+        c.totalCount = totalCount;
+        c.rawCount = rawCount;
+        c.rows.addAll(rows);
+        return c;
+    }
 }
@@ -0,0 +1,170 @@
+package com.softbase.nara.dto;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 값 종류가 적고 행마다 반복되는 공고 필드(업무구분명·상태명·기관명 등)의 값 사전 (조회 세션 단위).
+ * 필드별로 처음 나온 값에 정수 코드를 붙이고 그 String 인스턴스를 대표값으로 보관해서,
+ * 파싱 때마다 새로 만들어지는 같은 값의 String을 대표값 하나로 합침 (수십만 행을 보관해도 값 종류만큼만 남음).
+ * 결과 보관소(NoticeTable)는 이 코드로 열을 저장하고, 같음 비교 조건은 코드 비교로 처리.
+ * 코드는 사전 인스턴스 안에서만 의미가 있고 바뀌지 않음 (0은 null). 조회는 잠금 없이, 새 값 등록만 필드별 잠금.
+ * 결과 보관소는 만들 때의 사전(getInstance())을 붙잡아 그 사전으로 읽고 씀. startSession()으로 새 사전으로 바꾸면
+ * 이전 사전은 그 사전으로 만든 보관소가 모두 사라질 때 함께 해제됨 (지난 조회의 기관명 등이 계속 쌓이지 않음).
+ */
+public final class NoticeDictionary {
+
+    /** 사전 대상 필드 */
+    public enum Field {
+        PPS_NTCE_YN("ppsNtceYn"),
+        BID_NTCE_STTUS_NM("bidNtceSttusNm"),
+        BSNS_DIV_NM("bsnsDivNm"),
+        CNTRCT_CNCLS_STTUS_NM("cntrctCnclsSttusNm"),
+        CNTRCT_CNCLS_MTHD_NM("cntrctCnclsMthdNm"),
+        NTCE_INSTT_NM("ntceInsttNm"),
+        DMND_INSTT_NM("dmndInsttNm");
+
+        /** API 필드 키 (BidItemColumn.KEY_LIST) */
+        public final String key;
+
+        Field(String key) {
+            this.key = key;
+        }
+
+        /*
+        행에서 이 필드 값
+         */
+        public String valueOf(BidNotice r) {
+            switch (this) {
+                case PPS_NTCE_YN: return r.ppsNtceYn();
+                case BID_NTCE_STTUS_NM: return r.bidNtceSttusNm();
+                case BSNS_DIV_NM: return r.bsnsDivNm();
+                case CNTRCT_CNCLS_STTUS_NM: return r.cntrctCnclsSttusNm();
+                case CNTRCT_CNCLS_MTHD_NM: return r.cntrctCnclsMthdNm();
+                case NTCE_INSTT_NM: return r.ntceInsttNm();
+                case DMND_INSTT_NM: return r.dmndInsttNm();
+                default: throw new IllegalStateException(name());
+            }
+        }
+    }
+
+    /** null 값 코드 */
+    public static final int NULL_CODE = 0;
+
+    /**
+     * 필드 1개의 사전. 새 값 등록 시 배열을 먼저 채운 뒤 codes에 넣으므로,
+     * codes에서 코드를 얻은 스레드는 values/trimmed에서 해당 칸을 항상 볼 수 있음.
+     */
+    private static final class Column {
+        final ConcurrentHashMap<String, Integer> codes = new ConcurrentHashMap<>();
+        final ReentrantLock lock = new ReentrantLock();
+        /** 코드 → 대표값 */
+        volatile String[] values = new String[64];
+        /** 코드 → 앞뒤 공백을 뺀 값의 코드 (공백 차이를 무시하는 같음 비교용) */
+        volatile int[] trimmed = new int[64];
+        /** 등록된 코드 수 (0번 null 포함, lock 안에서만 변경) */
+        volatile int size = 1;
+
+        int encode(String value) {
+            if (value == null) return NULL_CODE;
+            Integer code = codes.get(value);
+            if (code != null) return code;
+            lock.lock();
+            try {
+                code = codes.get(value);
+                if (code != null) return code;
+                String t = value.trim();
+                // 공백을 뺀 값을 먼저 등록 (자기 자신이면 재귀 없음, ReentrantLock이라 재진입 가능)
+                int trimmedCode = t.equals(value) ? size : encode(t);
+                int c = size;
+                if (c == values.length) {
+                    int newLength = c * 2;
+                    trimmed = Arrays.copyOf(trimmed, newLength);
+                    values = Arrays.copyOf(values, newLength);
+                }
+                values[c] = value;
+                trimmed[c] = trimmedCode;
+                size = c + 1;
+                codes.put(value, c);
+                return c;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private final Column[] columns = new Column[Field.values().length];
+
+    /*
+    값의 코드 (처음 나온 값이면 새 코드 등록). null은 NULL_CODE.
+     */
+    public int encode(Field field, String value) {
+        return columns[field.ordinal()].encode(value);
+    }
+
+    /*
+    코드의 대표값 (NULL_CODE는 null)
+     */
+    public String decode(Field field, int code) {
+        return columns[field.ordinal()].values[code];
+    }
+
+    /*
+    같은 값의 대표 String 인스턴스 (처음 나온 값이면 그 인스턴스가 대표값이 됨)
+     */
+    public String canonical(Field field, String value) {
+        if (value == null) return null;
+        Column col = columns[field.ordinal()];
+        // encode()가 배열을 늘릴 수 있으므로 코드를 먼저 얻은 뒤 배열을 읽음
+        int code = col.encode(value);
+        return col.values[code];
+    }
+
+    /*
+    코드의 앞뒤 공백을 뺀 값의 코드 (NULL_CODE는 그대로)
+     */
+    public int trimmedCode(Field field, int code) {
+        return code == NULL_CODE ? NULL_CODE : columns[field.ordinal()].trimmed[code];
+    }
+
+    /*
+    필드의 코드 수 (null 코드 포함). 지금까지 받은 코드는 모두 이 값보다 작음 (코드별 배열 크기용)
+     */
+    public int codeCount(Field field) {
+        return columns[field.ordinal()].size;
+    }
+
+    /*
+    등록된 값 수 (모든 필드 합계, null 제외)
+     */
+    public int size() {
+        int total = 0;
+        for (Column c : columns) total += c.size - 1;
+        return total;
+    }
+
+    private NoticeDictionary() {
+        for (int i = 0; i < columns.length; i++) columns[i] = new Column();
+    }
+
+    /** 지금 조회 세션의 사전 */
+    private static volatile NoticeDictionary current = new NoticeDictionary();
+
+    /*
+    지금 조회 세션의 사전 (새 보관소·파싱 중 대표값 공유용)
+     */
+    public static NoticeDictionary getInstance() {
+        return current;
+    }
+
+    /*
+    새 조회 세션 시작: 빈 사전으로 교체하고 반환.
+    이미 만든 보관소는 이전 사전을 계속 쓰므로 영향 없음.
+     */
+    public static NoticeDictionary startSession() {
+        NoticeDictionary dict = new NoticeDictionary();
+        current = dict;
+        return dict;
+    }
+}
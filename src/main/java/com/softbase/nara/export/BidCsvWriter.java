@@ -0,0 +1,103 @@
+package com.softbase.nara.export;
+
+import com.softbase.nara.dto.BidItemColumn;
+import com.softbase.nara.dto.BidNotice;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 공고 목록 CSV 기록 (엑셀 호환: UTF-8 BOM, 모든 값 큰따옴표).
+ * 컬럼 순서는 화면 테이블과 동일(순번 + BidItemColumn.GRID_KEY_LIST).
+ * UI·CLI 공용이며 스레드 안전하지 않음 (한 번에 한 스레드에서만 기록).
+ */
+public final class BidCsvWriter implements Closeable, Flushable {
+
+    private final BufferedWriter out;
+
+    public BidCsvWriter(Writer out) {
+        this.out = out instanceof BufferedWriter ? (BufferedWriter) out : new BufferedWriter(out);
+    }
+
+    /*
+    파일을 UTF-8로 열어 기록기 생성 (기존 파일은 덮어씀)
+     */
+    public static BidCsvWriter open(File file) throws IOException {
+        return new BidCsvWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8));
+    }
+
+    /*
+    기본 헤더 (순번 + 컬럼 표시명)
+     */
+    public static List<String> defaultHeader() {
+        List<String> header = new ArrayList<>(BidItemColumn.GRID_KEY_LIST.size() + 1);
+        header.add("순번");
+        for (String k : BidItemColumn.GRID_KEY_LIST) {
+            header.add(BidItemColumn.KEY_TO_DISPLAY_NAME.getOrDefault(k, k));
+        }
+        return header;
+    }
+
+    /*
+    UTF-8 BOM + 헤더 행 기록
+     */
+    public void writeHeader(List<String> header) throws IOException {
+        out.write("\uFEFF"); // UTF-8 BOM (엑셀 호환)
+        out.append(String.join(",", header));
+        out.newLine();
+    }
+
+    /*
+    공고 1건을 CSV 행으로 기록 (0열: 순번, 나머지: BidItemColumn.GRID_KEY_LIST 순서)
+     */
+    public void writeRow(BidNotice row, long seq) throws IOException {
+        writeCell(String.valueOf(seq));
+        out.append(',');
+        for (int k = 0; k < BidItemColumn.GRID_KEY_LIST.size(); k++) {
+            writeCell(row.cell(k));
+            if (k < BidItemColumn.GRID_KEY_LIST.size() - 1) out.append(',');
+        }
+        out.newLine();
+    }
+
+    /*
+    이미 문자열로 만들어진 값들을 CSV 행으로 기록 (화면 테이블 저장용)
+     */
+    public void writeCells(List<String> cells) throws IOException {
+        for (int c = 0; c < cells.size(); c++) {
+            writeCell(cells.get(c));
+            if (c < cells.size() - 1) out.append(',');
+        }
+        out.newLine();
+    }
+
+    private void writeCell(String value) throws IOException {
+        String v = (value == null) ? "" : value;
+        out.append('"');
+        if (v.indexOf('"') >= 0) {
+            out.append(v.replace("\"", "\"\""));
+        } else {
+            out.append(v);
+        }
+        out.append('"');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,120 @@
+package com.softbase.nara.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 잠금 없는 지연 시간 히스토그램 (마이크로초 단위 로그-선형 버킷).
+ * 2의 거듭제곱 구간마다 8개 버킷으로 나눠 백분위 상대 오차는 약 6% 이내이며, 최대 약 12일까지 기록 가능.
+ * record()는 원자 증가 몇 번뿐이라 페이지마다 호출해도 부담이 없고, 스냅샷은 기록과 동시에 만들 수 있음
+ * (스냅샷 중 기록된 값은 일부 통계에만 반영될 수 있음).
+ */
+public final class LatencyHistogram {
+
+    /** 2의 거듭제곱 구간당 버킷 수 = 2^SUB_BITS */
+    private static final int SUB_BITS = 3;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    /** 2^40 µs(약 12일)까지 */
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BITS + 2) * SUB_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumMicros = new LongAdder();
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+    /*
+    경과 시간(나노초) 기록. 음수는 0으로 기록.
+     */
+    public void recordNanos(long nanos) {
+        recordMicros(nanos <= 0 ? 0 : nanos / 1_000);
+    }
+
+    public void recordMicros(long micros) {
+        long v = Math.max(0, micros);
+        buckets.incrementAndGet(bucketIndex(v));
+        count.increment();
+        sumMicros.add(v);
+        maxMicros.accumulate(v);
+    }
+
+    /*
+    현재 값 스냅샷 (백분위는 버킷 중간값, 최대값은 정확한 값)
+     */
+    public HistogramSnapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        long max = maxMicros.get();
+        return new HistogramSnapshot(total, total == 0 ? 0 : sumMicros.sum() / (double) total,
+                percentile(counts, total, 0.50, max),
+                percentile(counts, total, 0.95, max),
+                percentile(counts, total, 0.99, max),
+                max);
+    }
+
+    /*
+    모든 값 초기화 (기록과 동시에 호출하면 일부 값은 남을 수 있음)
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) buckets.set(i, 0);
+        count.reset();
+        sumMicros.reset();
+        maxMicros.reset();
+    }
+
+    /*
+    기록된 값 수
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    private static long percentile(long[] counts, long total, double q, long max) {
+        if (total == 0) return 0;
+        long rank = (long) Math.ceil(q * total);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(max, (bucketLower(i) + bucketUpper(i)) / 2);
+            }
+        }
+        return max;
+    }
+
+    /*
+    값(µs) → 버킷 위치. 0~7은 값 그대로, 그 이상은 (지수, 상위 3비트)로 결정.
+     */
+    static int bucketIndex(long v) {
+        if (v < SUB_COUNT) return (int) v;
+        int exp = 63 - Long.numberOfLeadingZeros(v);
+        if (exp > MAX_EXPONENT) return BUCKET_COUNT - 1;
+        int sub = (int) ((v >>> (exp - SUB_BITS)) & (SUB_COUNT - 1));
+        return (exp - SUB_BITS + 1) * SUB_COUNT + sub;
+    }
+
+    static long bucketLower(int index) {
+        if (index < SUB_COUNT) return index;
+        int exp = index / SUB_COUNT + SUB_BITS - 1;
+        int sub = index % SUB_COUNT;
+        return (long) (SUB_COUNT + sub) << (exp - SUB_BITS);
+    }
+
+    static long bucketUpper(int index) {
+        if (index < SUB_COUNT) return index;
+        int exp = index / SUB_COUNT + SUB_BITS - 1;
+        return bucketLower(index) + (1L << (exp - SUB_BITS)) - 1;
+    }
+
+    /**
+     * 히스토그램 스냅샷 (시간 값은 모두 마이크로초).
+     */
+    public record HistogramSnapshot(long count, double meanMicros, long p50Micros, long p95Micros,
+                                    long p99Micros, long maxMicros) {
+    }
+}
@@ -0,0 +1,92 @@
+package com.softbase.nara.metrics;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * NaraMetrics 스냅샷 (불변). 시간 값은 마이크로초, 텍스트 출력은 밀리초로 표시.
+ */
+public record MetricsSnapshot(
+        long takenAtMillis,
+        Map<String, LatencyHistogram.HistogramSnapshot> timers,
+        Map<String, Long> counters,
+        Map<String, Long> gauges,
+        Map<Integer, Long> httpStatus
+) {
+
+    public MetricsSnapshot {
+        timers = Collections.unmodifiableMap(timers);
+        counters = Collections.unmodifiableMap(counters);
+        gauges = Collections.unmodifiableMap(gauges);
+        httpStatus = Collections.unmodifiableMap(httpStatus);
+    }
+
+    /*
+    JSON 문자열 (키는 모두 영문 고정 이름)
+     */
+    public String toJson() {
+        StringBuilder sb = new StringBuilder(512);
+        sb.append("{\"takenAt\":\"").append(Instant.ofEpochMilli(takenAtMillis)).append("\",\"timers\":{");
+        boolean first = true;
+        for (Map.Entry<String, LatencyHistogram.HistogramSnapshot> e : timers.entrySet()) {
+            LatencyHistogram.HistogramSnapshot h = e.getValue();
+            if (!first) sb.append(',');
+            first = false;
+            sb.append('"').append(e.getKey()).append("\":{")
+                    .append("\"count\":").append(h.count())
+                    .append(",\"meanMicros\":").append(Math.round(h.meanMicros()))
+                    .append(",\"p50Micros\":").append(h.p50Micros())
+                    .append(",\"p95Micros\":").append(h.p95Micros())
+                    .append(",\"p99Micros\":").append(h.p99Micros())
+                    .append(",\"maxMicros\":").append(h.maxMicros())
+                    .append('}');
+        }
+        sb.append("},\"counters\":{");
+        first = true;
+        for (Map.Entry<String, Long> e : counters.entrySet()) {
+            if (!first) sb.append(',');
+            first = false;
+            sb.append('"').append(e.getKey()).append("\":").append(e.getValue());
+        }
+        sb.append("},\"gauges\":{");
+        first = true;
+        for (Map.Entry<String, Long> e : gauges.entrySet()) {
+            if (!first) sb.append(',');
+            first = false;
+            sb.append('"').append(e.getKey()).append("\":").append(e.getValue());
+        }
+        sb.append("},\"httpStatus\":{");
+        first = true;
+        for (Map.Entry<Integer, Long> e : httpStatus.entrySet()) {
+            if (!first) sb.append(',');
+            first = false;
+            sb.append('"').append(e.getKey()).append("\":").append(e.getValue());
+        }
+        return sb.append("}}").toString();
+    }
+
+    /*
+    사람이 읽기 쉬운 표 형식 텍스트
+     */
+    public String toText() {
+        StringBuilder sb = new StringBuilder(512);
+        sb.append("지표 스냅샷 ").append(Instant.ofEpochMilli(takenAtMillis)).append('\n');
+        sb.append(String.format("%-14s %8s %10s %10s %10s %10s %10s%n",
+                "timer", "count", "mean(ms)", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+        for (Map.Entry<String, LatencyHistogram.HistogramSnapshot> e : timers.entrySet()) {
+            LatencyHistogram.HistogramSnapshot h = e.getValue();
+            sb.append(String.format("%-14s %8d %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+                    e.getKey(), h.count(), h.meanMicros() / 1000.0, h.p50Micros() / 1000.0,
+                    h.p95Micros() / 1000.0, h.p99Micros() / 1000.0, h.maxMicros() / 1000.0));
+        }
+        for (Map.Entry<String, Long> e : counters.entrySet()) {
+            sb.append(String.format("%-14s %,d%n", e.getKey(), e.getValue()));
+        }
+        for (Map.Entry<String, Long> e : gauges.entrySet()) {
+            sb.append(String.format("%-14s %,d%n", e.getKey(), e.getValue()));
+        }
+        sb.append("httpStatus     ").append(httpStatus).append('\n');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,171 @@
+package com.softbase.nara.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 단계별 처리 지표 (프로세스 전체 공유, 고정 항목).
+ * 타이머는 LatencyHistogram, 카운터는 LongAdder라 여러 페이지 작업이 동시에 기록해도 잠금 없음.
+ * 현재 값만 의미 있는 항목(동시 요청 상한 등)은 게이지로 등록해 두면 스냅샷 시점에 읽음.
+ * snapshot()으로 읽고 MetricsSnapshot.toJson()/toText()로 출력.
+ */
+public final class NaraMetrics {
+
+    /** HTTP 응답 대기 시간 (요청 전송 ~ 헤더 수신, 문자열 응답은 본문 수신까지) */
+    private final LatencyHistogram httpLatency = new LatencyHistogram();
+    /** 응답 파싱 시간 (필터 제외, 스트림 응답은 본문 수신 시간 포함) */
+    private final LatencyHistogram parseTime = new LatencyHistogram();
+    /** 페이지당 필터 적용 시간 합계 */
+    private final LatencyHistogram filterTime = new LatencyHistogram();
+    /** 페이지 1개 수집 전체 시간 (속도 제한 대기·재시도 포함) */
+    private final LatencyHistogram pageFetch = new LatencyHistogram();
+    /** 조회 1건 전체 시간 (fetchAllFilteredRows / fetchRange) */
+    private final LatencyHistogram fetchTotal = new LatencyHistogram();
+
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder httpErrors = new LongAdder();
+    /** 수신 바이트 (전송 압축 상태 그대로) */
+    private final LongAdder bytesReceived = new LongAdder();
+    /** 압축 해제 후 바이트 (압축하지 않은 응답은 bytesReceived와 같음) */
+    private final LongAdder bytesDecoded = new LongAdder();
+    private final LongAdder rowsKept = new LongAdder();
+    private final LongAdder rowsDropped = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    /** 메모리 결과 캐시 적중 (파싱·디스크 읽기 없음) */
+    private final LongAdder memoryHits = new LongAdder();
+    /** 진행 중인 같은 요청에 합류한 호출 수 */
+    private final LongAdder coalesced = new LongAdder();
+    /** HTTP 상태 코드 → 응답 수 */
+    private final Map<Integer, LongAdder> httpStatus = new ConcurrentHashMap<>();
+    /** 게이지 이름 → 현재 값 (등록 순서 유지) */
+    private final Map<String, LongSupplier> gauges = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    public LatencyHistogram httpLatency() { return httpLatency; }
+    public LatencyHistogram parseTime() { return parseTime; }
+    public LatencyHistogram filterTime() { return filterTime; }
+    public LatencyHistogram pageFetch() { return pageFetch; }
+    public LatencyHistogram fetchTotal() { return fetchTotal; }
+
+    /*
+    HTTP 응답 1건 기록 (상태 코드 + 응답 대기 시간)
+     */
+    public void recordHttp(int statusCode, long elapsedNanos) {
+        httpStatus.computeIfAbsent(statusCode, k -> new LongAdder()).increment();
+        httpLatency.recordNanos(elapsedNanos);
+    }
+
+    /*
+    응답을 받지 못한 HTTP 호출 (연결 실패·타임아웃 등)
+     */
+    public void recordHttpError() {
+        httpErrors.increment();
+    }
+
+    public void addBytesReceived(long bytes) {
+        bytesReceived.add(bytes);
+    }
+
+    public void addBytesDecoded(long bytes) {
+        bytesDecoded.add(bytes);
+    }
+
+    public void recordRetry() {
+        retries.increment();
+    }
+
+    public void recordCacheHit() {
+        cacheHits.increment();
+    }
+
+    public void recordMemoryHit() {
+        memoryHits.increment();
+    }
+
+    public void recordCoalesced() {
+        coalesced.increment();
+    }
+
+    /*
+    게이지 등록 (같은 이름이면 교체). reset()의 영향을 받지 않음.
+     */
+    public void registerGauge(String name, LongSupplier value) {
+        gauges.put(name, value);
+    }
+
+    /*
+    페이지 1개 파싱 결과 기록 (필터 통과/탈락 건수 포함).
+    필터 시간은 조건이 있는 필터를 적용한 페이지만 기록 (조건 없는 페이지의 0ns가 분포를 끌어내리지 않도록)
+     */
+    public void recordParse(long parseNanos, long filterNanos, boolean filtered, long kept, long dropped) {
+        parseTime.recordNanos(parseNanos);
+        if (filtered) filterTime.recordNanos(filterNanos);
+        rowsKept.add(kept);
+        rowsDropped.add(dropped);
+    }
+
+    /*
+    현재 지표 스냅샷
+     */
+    public MetricsSnapshot snapshot() {
+        Map<String, LatencyHistogram.HistogramSnapshot> timers = new LinkedHashMap<>();
+        timers.put("httpLatency", httpLatency.snapshot());
+        timers.put("parseTime", parseTime.snapshot());
+        timers.put("filterTime", filterTime.snapshot());
+        timers.put("pageFetch", pageFetch.snapshot());
+        timers.put("fetchTotal", fetchTotal.snapshot());
+
+        Map<String, Long> counters = new LinkedHashMap<>();
+        counters.put("retries", retries.sum());
+        counters.put("httpErrors", httpErrors.sum());
+        counters.put("bytesReceived", bytesReceived.sum());
+        counters.put("bytesDecoded", bytesDecoded.sum());
+        counters.put("rowsKept", rowsKept.sum());
+        counters.put("rowsDropped", rowsDropped.sum());
+        counters.put("cacheHits", cacheHits.sum());
+        counters.put("memoryHits", memoryHits.sum());
+        counters.put("coalesced", coalesced.sum());
+
+        Map<String, Long> gaugeValues = new LinkedHashMap<>();
+        synchronized (gauges) {
+            gauges.forEach((name, value) -> gaugeValues.put(name, value.getAsLong()));
+        }
+
+        Map<Integer, Long> status = new TreeMap<>();
+        httpStatus.forEach((code, n) -> status.put(code, n.sum()));
+        return new MetricsSnapshot(System.currentTimeMillis(), timers, counters, gaugeValues, status);
+    }
+
+    /*
+    모든 지표 초기화
+     */
+    public void reset() {
+        httpLatency.reset();
+        parseTime.reset();
+        filterTime.reset();
+        pageFetch.reset();
+        fetchTotal.reset();
+        retries.reset();
+        httpErrors.reset();
+        bytesReceived.reset();
+        bytesDecoded.reset();
+        rowsKept.reset();
+        rowsDropped.reset();
+        cacheHits.reset();
+        memoryHits.reset();
+        coalesced.reset();
+        httpStatus.clear();
+    }
+
+    private NaraMetrics() {}
+
+    private static final NaraMetrics INSTANCE = new NaraMetrics();
+
+    public static NaraMetrics getInstance() {
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,276 @@
+package com.softbase.nara.parser;
+
+import com.softbase.nara.dto.BidItemColumn;
+import org.json.simple.parser.ContentHandler;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 나라장터 API JSON 응답 스트리밍 파싱 전담.
+ * DOM(JSONObject/JSONArray)을 만들지 않고 응답 스트림을 한 번 훑으면서
+ * header/body 메타와 item별 BidItemColumn.KEY_LIST 필드만 뽑아 전달함.
+ * item이 단건 객체(items.item = {...})이거나 배열(items.item = [...], items = [...])인 경우 모두 처리.
+ * 파싱 1회당 인스턴스 1개 사용 (스레드 안전하지 않음).
+ */
+public final class NaraStreamingParser {
+
+    /** item 1건 처리 콜백. values는 BidItemColumn.KEY_LIST 순서 (값 없으면 "") */
+    @FunctionalInterface
+    public interface ItemHandler {
+        void onItem(String[] values) throws Exception;
+    }
+
+    /** API 필드 키 → KEY_LIST 인덱스 */
+    private static final Map<String, Integer> KEY_INDEX = new HashMap<>();
+
+    static {
+        for (int i = 0; i < BidItemColumn.KEY_LIST.size(); i++) {
+            KEY_INDEX.put(BidItemColumn.KEY_LIST.get(i), i);
+        }
+    }
+
+    /** 결과 코드 */
+    private String resultCode = "";
+    /** 결과 메시지 */
+    private String resultMsg = "";
+    /** 한 페이지 결과 수 */
+    private long numOfRows;
+    /** 페이지 번호 */
+    private long pageNo;
+    /** 전체 결과 수 */
+    private long totalCount;
+    /** 파싱한 item 건수 (콜백 호출 건수) */
+    private int itemCount;
+
+    private boolean hasResponse;
+    private boolean hasHeader;
+    private boolean hasBody;
+
+    /*
+    UTF-8 응답 스트림을 파싱. item마다 handler 호출.
+    스트림은 호출자가 닫음.
+     */
+    public void parse(InputStream in, ItemHandler handler) throws Exception {
+        parse(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 16 * 1024), handler);
+    }
+
+    /*
+    Reader 기반 파싱. 구조(response/header/body)가 없으면 IllegalArgumentException.
+     */
+    public void parse(Reader reader, ItemHandler handler) throws Exception {
+        Handler h = new Handler(handler);
+        try {
+            new JSONParser().parse(reader, h);
+        } catch (HandlerException e) {
+            throw e.cause;
+        }
+        if (!hasResponse) throw new IllegalArgumentException("응답에 'response'가 없습니다.");
+        if (!hasHeader) throw new IllegalArgumentException("응답에 'header'가 없습니다.");
+        if (!hasBody) throw new IllegalArgumentException("응답에 'body'가 없습니다.");
+    }
+
+    public String getResultCode() {
+        return resultCode;
+    }
+
+    public String getResultMsg() {
+        return resultMsg;
+    }
+
+    public long getNumOfRows() {
+        return numOfRows;
+    }
+
+    public long getPageNo() {
+        return pageNo;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    /*
+    json-simple SAX 방식 ContentHandler.
+    현재 위치를 (객체 키 경로 + 컨테이너 종류 스택)으로 추적해서 필요한 값만 수집.
+     */
+    private final class Handler implements ContentHandler {
+
+        private final ItemHandler itemHandler;
+        /** 현재 열려 있는 객체 엔트리 키 경로 (예: response, body, items, item) */
+        private final List<String> path = new ArrayList<>();
+        /** 컨테이너 스택 (true: 배열, false: 객체) */
+        private final List<Boolean> containers = new ArrayList<>();
+        /** item 객체 내부일 때 그 객체의 컨테이너 깊이 (-1: item 밖) */
+        private int itemDepth = -1;
+        /** 현재 item 값 (KEY_LIST 순서) */
+        private String[] values;
+
+        Handler(ItemHandler itemHandler) {
+            this.itemHandler = itemHandler;
+        }
+
+        @Override
+        public void startJSON() {
+            // 시작 시 처리 없음
+        }
+
+        @Override
+        public void endJSON() {
+            // 종료 시 처리 없음
+        }
+
+        @Override
+        public boolean startObject() {
+            if (itemDepth < 0 && isItemObjectStart()) {
+                itemDepth = containers.size() + 1;
+                values = new String[BidItemColumn.KEY_LIST.size()];
+            } else if (itemDepth < 0 && !insideArray()) {
+                markSection();
+            }
+            containers.add(Boolean.FALSE);
+            return true;
+        }
+
+        @Override
+        public boolean endObject() throws ParseException {
+            if (itemDepth == containers.size()) {
+                itemDepth = -1;
+                String[] v = values;
+                values = null;
+                for (int i = 0; i < v.length; i++) {
+                    if (v[i] == null) v[i] = "";
+                }
+                itemCount++;
+                try {
+                    itemHandler.onItem(v);
+                } catch (Exception e) {
+                    throw new HandlerException(e);
+                }
+            }
+            containers.remove(containers.size() - 1);
+            return true;
+        }
+
+        @Override
+        public boolean startObjectEntry(String key) {
+            path.add(key);
+            return true;
+        }
+
+        @Override
+        public boolean endObjectEntry() {
+            path.remove(path.size() - 1);
+            return true;
+        }
+
+        @Override
+        public boolean startArray() {
+            containers.add(Boolean.TRUE);
+            return true;
+        }
+
+        @Override
+        public boolean endArray() {
+            containers.remove(containers.size() - 1);
+            return true;
+        }
+
+        @Override
+        public boolean primitive(Object value) {
+            String key = path.isEmpty() ? null : path.get(path.size() - 1);
+            if (key == null || insideArray()) return true;
+
+            if (itemDepth >= 0) {
+                // item 바로 아래 필드만 수집 (중첩 객체 내부 값은 무시)
+                if (itemDepth == containers.size()) {
+                    Integer idx = KEY_INDEX.get(key);
+                    if (idx != null) values[idx] = (value == null) ? "" : String.valueOf(value);
+                }
+                return true;
+            }
+
+            if (isPath("response", "header", key)) {
+                if ("resultCode".equals(key)) resultCode = (value == null) ? "" : String.valueOf(value);
+                else if ("resultMsg".equals(key)) resultMsg = (value == null) ? "" : String.valueOf(value);
+            } else if (isPath("response", "body", key)) {
+                if ("numOfRows".equals(key)) numOfRows = toLong(value);
+                else if ("pageNo".equals(key)) pageNo = toLong(value);
+                else if ("totalCount".equals(key)) totalCount = toLong(value);
+            }
+            return true;
+        }
+
+        /*
+        item 객체 시작 여부.
+        - response.body.items.item 위치의 객체 (단건 객체 또는 배열 원소)
+        - response.body.items 가 배열일 때 그 원소 객체
+         */
+        private boolean isItemObjectStart() {
+            if (isPath("response", "body", "items", "item")) return true;
+            return insideArray() && isPath("response", "body", "items");
+        }
+
+        /*
+        response/header/body 객체 존재 여부 기록
+         */
+        private void markSection() {
+            if (isPath("response")) hasResponse = true;
+            else if (isPath("response", "header")) hasHeader = true;
+            else if (isPath("response", "body")) hasBody = true;
+        }
+
+        private boolean insideArray() {
+            return !containers.isEmpty() && containers.get(containers.size() - 1);
+        }
+
+        /*
+        현재 키 경로가 주어진 경로와 같은지 확인 (배열 깊이는 무시).
+         */
+        private boolean isPath(String... keys) {
+            if (path.size() != keys.length) return false;
+            for (int i = 0; i < keys.length; i++) {
+                if (!keys[i].equals(path.get(i))) return false;
+            }
+            return true;
+        }
+    }
+
+    /*
+    ItemHandler 예외를 ContentHandler 시그니처(ParseException) 밖으로 전달하기 위한 래퍼.
+     */
+    private static final class HandlerException extends ParseException {
+        final Exception cause;
+
+        HandlerException(Exception cause) {
+            super(ParseException.ERROR_UNEXPECTED_EXCEPTION, cause);
+            this.cause = cause;
+        }
+    }
+
+    /*
+    객체를 long 타입으로 변환
+    */
+    private static long toLong(Object o) {
+        if (o == null) return 0;
+        try {
+            return Long.parseLong(String.valueOf(o));
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package com.softbase.nara.search;
+
+import com.softbase.nara.dto.BidNotice;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 공고명 글자 bigram(연속 2글자) 역색인. 조회 결과 행이 도착하는 대로 addAll()로 이어서 색인하고,
+ * 결과 안에서 부분 문자열·여러 검색어 AND/OR·제외 검색을 행 전체 순회 없이 처리.
+ * 한글은 단어 사이 띄어쓰기가 없는 공고명이 많아 형태소 대신 글자 단위 bigram을 씀 (1글자 검색어는 글자 색인).
+ * 행 번호는 add 순서(0부터)로 결과 보관소 위치와 같으며, 색인 목록은 행 번호 오름차순이라 교집합·합집합을 병합으로 처리.
+ * 3글자 이상 검색어는 bigram이 모두 있는 행만 후보로 두고 공고명에서 확인. 영문은 대소문자 구분 없음.
+ * 추가는 수집 작업 스레드 1개, 검색은 EDT에서 (읽기/쓰기 잠금).
+ */
+public final class BigramIndex {
+
+    /**
+     * 색인 키 1개의 행 번호 목록 (오름차순, 중복 없음)
+     */
+    private static final class Postings {
+        int[] rows = new int[4];
+        int size;
+
+        void add(int row) {
+            if (size > 0 && rows[size - 1] == row) return;
+            if (size == rows.length) rows = Arrays.copyOf(rows, size * 2);
+            rows[size++] = row;
+        }
+
+        /*
+        limit보다 작은 행 번호 수 (수집 중 공개된 건수까지만 검색)
+         */
+        int sizeBelow(int limit) {
+            if (size == 0 || rows[size - 1] < limit) return size;
+            int i = Arrays.binarySearch(rows, 0, size, limit);
+            return i >= 0 ? i : -i - 1;
+        }
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    /** 색인 키 → 행 번호 목록. 키는 bigram이면 (앞 글자 << 16 | 뒷 글자), 1글자면 글자 코드 */
+    private final HashMap<Integer, Postings> postings = new HashMap<>();
+    /** 행 번호 → 정규화한 공고명 (3글자 이상 검색어 확인용) */
+    private String[] titles = new String[1024];
+    private int size;
+
+    /*
+    행 목록을 이어서 색인 (행 번호는 지금까지 색인한 수부터)
+     */
+    public void addAll(List<BidNotice> rows) {
+        lock.writeLock().lock();
+        try {
+            for (BidNotice r : rows) addTitle(r.bidNtceNm());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addTitle(String bidNtceNm) {
+        int row = size;
+        String t = normalize(bidNtceNm == null ? "" : bidNtceNm);
+        if (row == titles.length) titles = Arrays.copyOf(titles, row * 2);
+        titles[row] = t;
+        size = row + 1;
+        for (int i = 0; i < t.length(); i++) {
+            char c = t.charAt(i);
+            posting(c).add(row);
+            if (i + 1 < t.length()) posting(bigram(c, t.charAt(i + 1))).add(row);
+        }
+    }
+
+    private Postings posting(int key) {
+        return postings.computeIfAbsent(key, k -> new Postings());
+    }
+
+    /*
+    색인한 행 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+    앞 rowCount행 중 검색식을 만족하는 행 번호 (오름차순). 빈 검색식이면 전체.
+     */
+    public int[] search(Query query, int rowCount) {
+        lock.readLock().lock();
+        try {
+            int limit = Math.min(rowCount, size);
+            if (query.isEmpty()) return all(limit);
+            int[] result = new int[0];
+            for (Clause clause : query.clauses) {
+                result = union(result, match(clause, limit));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+    절 1개: 포함 검색어 모두 AND 후 제외 검색어 중 하나라도 포함한 행 제외
+     */
+    private int[] match(Clause clause, int limit) {
+        int[] rows = null;
+        for (String term : clause.include) {
+            int[] hit = term(term, limit);
+            rows = rows == null ? hit : intersect(rows, hit);
+            if (rows.length == 0) return rows;
+        }
+        if (rows == null) rows = all(limit);
+        for (String term : clause.exclude) {
+            rows = subtract(rows, term(term, limit));
+            if (rows.length == 0) return rows;
+        }
+        return rows;
+    }
+
+    /*
+    검색어 1개를 포함한 행 (1·2글자는 색인 그대로, 3글자 이상은 bigram 교집합 후 공고명 확인)
+     */
+    private int[] term(String term, int limit) {
+        if (term.length() == 1) return rows(postings.get((int) term.charAt(0)), limit);
+        // 행 수가 적은 bigram부터 교집합 (후보를 빨리 줄임)
+        List<Postings> lists = new ArrayList<>(term.length() - 1);
+        for (int i = 0; i + 1 < term.length(); i++) {
+            Postings p = postings.get(bigram(term.charAt(i), term.charAt(i + 1)));
+            if (p == null) return new int[0];
+            if (!lists.contains(p)) lists.add(p);
+        }
+        lists.sort((a, b) -> Integer.compare(a.size, b.size));
+        int[] rows = rows(lists.get(0), limit);
+        for (int i = 1; i < lists.size() && rows.length > 0; i++) {
+            rows = intersect(rows, lists.get(i), limit);
+        }
+        if (term.length() == 2) return rows;
+        int n = 0;
+        for (int row : rows) {
+            if (titles[row].contains(term)) rows[n++] = row;
+        }
+        return n == rows.length ? rows : Arrays.copyOf(rows, n);
+    }
+
+    private static int[] rows(Postings p, int limit) {
+        return p == null ? new int[0] : Arrays.copyOf(p.rows, p.sizeBelow(limit));
+    }
+
+    private static int[] all(int limit) {
+        int[] rows = new int[limit];
+        for (int i = 0; i < limit; i++) rows[i] = i;
+        return rows;
+    }
+
+    /*
+    후보(작은 목록)를 색인 목록에서 지수 탐색으로 확인 (앞으로만 탐색하므로 비용은 후보 수 × log(간격))
+     */
+    private static int[] intersect(int[] rows, Postings p, int limit) {
+        int[] list = p.rows;
+        int end = p.sizeBelow(limit);
+        int n = 0;
+        int from = 0;
+        for (int row : rows) {
+            if (from >= end) break;
+            if (list[from] < row) {
+                int step = 1;
+                int hi = from + 1;
+                while (hi < end && list[hi] < row) {
+                    from = hi;
+                    step <<= 1;
+                    hi = from + step;
+                }
+                int i = Arrays.binarySearch(list, from + 1, Math.min(hi + 1, end), row);
+                from = i >= 0 ? i : -i - 1;
+            }
+            if (from < end && list[from] == row) {
+                rows[n++] = row;
+                from++;
+            }
+        }
+        return n == rows.length ? rows : Arrays.copyOf(rows, n);
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) i++;
+            else if (a[i] > b[j]) j++;
+            else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    private static int[] union(int[] a, int[] b) {
+        if (a.length == 0) return b;
+        if (b.length == 0) return a;
+        int[] out = new int[a.length + b.length];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) out[n++] = a[i++];
+            else if (a[i] > b[j]) out[n++] = b[j++];
+            else {
+                out[n++] = a[i++];
+                j++;
+            }
+        }
+        while (i < a.length) out[n++] = a[i++];
+        while (j < b.length) out[n++] = b[j++];
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    private static int[] subtract(int[] a, int[] b) {
+        if (b.length == 0) return a;
+        int[] out = new int[a.length];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length) {
+            while (j < b.length && b[j] < a[i]) j++;
+            if (j >= b.length || b[j] != a[i]) out[n++] = a[i];
+            i++;
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    private static int bigram(char a, char b) {
+        return (a << 16) | b;
+    }
+
+    /*
+    색인·검색 공통 정규화 (영문 소문자, 글자 코드 0은 1글자 키와 bigram 키가 겹치지 않도록 제거)
+     */
+    private static String normalize(String s) {
+        String t = s.toLowerCase(Locale.ROOT);
+        return t.indexOf('\u0000') < 0 ? t : t.replace("\u0000", "");
+    }
+
+    /**
+     * 절 1개 (포함 검색어 AND, 제외 검색어 OR)
+     */
+    private record Clause(List<String> include, List<String> exclude) {}
+
+    /**
+     * 검색식. 쉼표로 나눈 절 중 하나라도 만족하면 통과 (OR).
+     * 절 안에서는 공백으로 나눈 검색어를 모두 포함해야 하고 (AND), "-검색어"는 포함하면 제외,
+     * 큰따옴표로 묶은 구절은 공백 포함 그대로 한 검색어.
+     * 예) "ISMP, 차세대 -유지보수, \"정보 시스템\""
+     */
+    public static final class Query {
+
+        private final List<Clause> clauses;
+
+        private Query(List<Clause> clauses) {
+            this.clauses = clauses;
+        }
+
+        public static Query parse(String text) {
+            List<Clause> clauses = new ArrayList<>();
+            if (text != null) {
+                for (String part : splitClauses(text)) {
+                    List<String> include = new ArrayList<>();
+                    List<String> exclude = new ArrayList<>();
+                    for (String token : tokens(part)) {
+                        boolean negative = token.length() > 1 && token.charAt(0) == '-';
+                        String term = normalize(negative ? token.substring(1) : token);
+                        if (term.isEmpty()) continue;
+                        (negative ? exclude : include).add(term);
+                    }
+                    if (!include.isEmpty() || !exclude.isEmpty()) clauses.add(new Clause(include, exclude));
+                }
+            }
+            return new Query(clauses);
+        }
+
+        public boolean isEmpty() {
+            return clauses.isEmpty();
+        }
+
+        /*
+        쉼표로 절 나누기 (큰따옴표 안의 쉼표는 구절의 일부)
+         */
+        private static List<String> splitClauses(String text) {
+            List<String> parts = new ArrayList<>();
+            StringBuilder sb = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '"') quoted = !quoted;
+                if (c == ',' && !quoted) {
+                    parts.add(sb.toString());
+                    sb.setLength(0);
+                } else {
+                    sb.append(c);
+                }
+            }
+            parts.add(sb.toString());
+            return parts;
+        }
+
+        /*
+        공백으로 검색어 나누기 (큰따옴표 구절은 따옴표를 빼고 한 검색어, 구절 앞 '-'는 유지)
+         */
+        private static List<String> tokens(String part) {
+            List<String> tokens = new ArrayList<>();
+            StringBuilder sb = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < part.length(); i++) {
+                char c = part.charAt(i);
+                if (c == '"') {
+                    quoted = !quoted;
+                } else if (Character.isWhitespace(c) && !quoted) {
+                    if (sb.length() > 0) tokens.add(sb.toString());
+                    sb.setLength(0);
+                } else {
+                    sb.append(c);
+                }
+            }
+            if (sb.length() > 0) tokens.add(sb.toString());
+            return tokens;
+        }
+    }
+}
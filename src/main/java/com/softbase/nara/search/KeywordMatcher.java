@@ -0,0 +1,220 @@
+package com.softbase.nara.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 여러 검색어를 공고명 1회 순회로 동시에 찾는 Aho-Corasick 매처.
+ * 검색어 목록이 30~80개여도 비교 비용은 (공고명 길이 + 매칭 수)에 비례.
+ * 조회 1건당 한 번 만들어 공유하며, 생성 후에는 불변이라 스레드 안전.
+ */
+public final class KeywordMatcher {
+
+    /** 검색어 (입력 순서, 중복 제거) */
+    private final String[] keywords;
+    /** 상태별 전이 문자 (오름차순, 이진 탐색용) */
+    private final char[][] edgeChars;
+    /** 상태별 전이 대상 상태 (edgeChars와 같은 순서) */
+    private final int[][] edgeTargets;
+    /** 상태별 실패 링크 */
+    private final int[] fail;
+    /** 상태별 출력 링크: 이 상태에서 끝나는 검색어 인덱스 (없으면 -1) */
+    private final int[] terminal;
+    /** 상태별 사전 접미 링크: 실패 링크를 따라가며 만나는 가장 가까운 종료 상태 (없으면 -1) */
+    private final int[] dictLink;
+
+    private KeywordMatcher(String[] keywords, char[][] edgeChars, int[][] edgeTargets,
+                           int[] fail, int[] terminal, int[] dictLink) {
+        this.keywords = keywords;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.terminal = terminal;
+        this.dictLink = dictLink;
+    }
+
+    /*
+    검색어 목록으로 매처 생성. null/빈 검색어는 무시하고, 같은 검색어는 한 번만 등록.
+     */
+    public static KeywordMatcher compile(Collection<String> keywordList) {
+        LinkedHashSet<String> uniq = new LinkedHashSet<>();
+        for (String kw : keywordList) {
+            if (kw != null && !kw.isEmpty()) uniq.add(kw);
+        }
+        String[] kws = uniq.toArray(new String[0]);
+
+        // 1) 트라이 구성 (빌드 중에는 TreeMap으로 전이 관리)
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> term = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        term.add(-1);
+        for (int k = 0; k < kws.length; k++) {
+            int state = 0;
+            for (int i = 0; i < kws[k].length(); i++) {
+                char c = kws[k].charAt(i);
+                Integer next = trie.get(state).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    term.add(-1);
+                    trie.get(state).put(c, next);
+                }
+                state = next;
+            }
+            term.set(state, k);
+        }
+
+        // 2) 배열 형태로 압축
+        int n = trie.size();
+        char[][] edgeChars = new char[n][];
+        int[][] edgeTargets = new int[n][];
+        int[] terminal = new int[n];
+        for (int s = 0; s < n; s++) {
+            TreeMap<Character, Integer> edges = trie.get(s);
+            edgeChars[s] = new char[edges.size()];
+            edgeTargets[s] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> e : edges.entrySet()) {
+                edgeChars[s][i] = e.getKey();
+                edgeTargets[s][i] = e.getValue();
+                i++;
+            }
+            terminal[s] = term.get(s);
+        }
+
+        // 3) BFS로 실패 링크·사전 접미 링크 계산
+        int[] fail = new int[n];
+        int[] dictLink = new int[n];
+        Arrays.fill(dictLink, -1);
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int t : edgeTargets[0]) {
+            fail[t] = 0;
+            queue.add(t);
+        }
+        while (!queue.isEmpty()) {
+            int s = queue.poll();
+            for (int i = 0; i < edgeChars[s].length; i++) {
+                char c = edgeChars[s][i];
+                int t = edgeTargets[s][i];
+                int f = fail[s];
+                int next;
+                while ((next = step(edgeChars, edgeTargets, f, c)) < 0 && f != 0) {
+                    f = fail[f];
+                }
+                fail[t] = Math.max(next, 0);
+                int ft = fail[t];
+                dictLink[t] = terminal[ft] >= 0 ? ft : dictLink[ft];
+                queue.add(t);
+            }
+        }
+        return new KeywordMatcher(kws, edgeChars, edgeTargets, fail, terminal, dictLink);
+    }
+
+    /*
+    쉼표 구분 검색어 문자열로 매처 생성 (각 검색어 trim).
+     */
+    public static KeywordMatcher compile(String commaSeparated) {
+        List<String> list = new ArrayList<>();
+        if (commaSeparated != null) {
+            for (String kw : commaSeparated.split(",")) {
+                String t = kw.trim();
+                if (!t.isEmpty()) list.add(t);
+            }
+        }
+        return compile(list);
+    }
+
+    /*
+    검색어 중 하나라도 포함하는지 (OR). 첫 매칭에서 바로 종료.
+     */
+    public boolean matchesAny(CharSequence text) {
+        if (text == null || keywords.length == 0) return false;
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            if (terminal[state] >= 0 || dictLink[state] >= 0) return true;
+        }
+        return false;
+    }
+
+    /*
+    포함된 검색어 인덱스 목록 (검색어 입력 순서, 중복 없음).
+     */
+    public int[] findMatches(CharSequence text) {
+        if (text == null || keywords.length == 0) return new int[0];
+        boolean[] hit = null;
+        int hitCount = 0;
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            for (int s = terminal[state] >= 0 ? state : dictLink[state]; s >= 0; s = dictLink[s]) {
+                if (hit == null) hit = new boolean[keywords.length];
+                if (!hit[terminal[s]]) {
+                    hit[terminal[s]] = true;
+                    hitCount++;
+                }
+            }
+        }
+        int[] result = new int[hitCount];
+        for (int k = 0, j = 0; j < hitCount; k++) {
+            if (hit[k]) result[j++] = k;
+        }
+        return result;
+    }
+
+    /*
+    포함된 검색어를 쉼표로 이어 붙인 문자열 (그리드 "매칭키워드" 컬럼용). 없으면 "".
+     */
+    public String matchedKeywords(CharSequence text) {
+        int[] idx = findMatches(text);
+        if (idx.length == 0) return "";
+        if (idx.length == 1) return keywords[idx[0]];
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < idx.length; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(keywords[idx[i]]);
+        }
+        return sb.toString();
+    }
+
+    /*
+    인덱스에 해당하는 검색어
+     */
+    public String keyword(int index) {
+        return keywords[index];
+    }
+
+    /*
+    등록된 검색어 수
+     */
+    public int size() {
+        return keywords.length;
+    }
+
+    /*
+    현재 상태에서 문자 c를 읽은 다음 상태 (실패 링크 포함)
+     */
+    private int next(int state, char c) {
+        while (true) {
+            int t = step(edgeChars, edgeTargets, state, c);
+            if (t >= 0) return t;
+            if (state == 0) return 0;
+            state = fail[state];
+        }
+    }
+
+    /*
+    상태의 직접 전이만 확인 (없으면 -1)
+     */
+    private static int step(char[][] edgeChars, int[][] edgeTargets, int state, char c) {
+        int i = Arrays.binarySearch(edgeChars[state], c);
+        return i >= 0 ? edgeTargets[state][i] : -1;
+    }
+}
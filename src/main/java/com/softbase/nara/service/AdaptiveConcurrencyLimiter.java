@@ -0,0 +1,191 @@
+package com.softbase.nara.service;
+
+import com.softbase.nara.client.CancellationToken;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 응답 시간과 과부하 응답(429/503/timeout)에 따라 동시 요청 수 상한을 조절하는 AIMD 제한기 (서비스 전체 공유).
+ * - 응답 대기 시간(헤더 수신까지)이 기준값(최근 최소값 × LATENCY_TOLERANCE) 이내로 평탄하면 상한을 1/상한씩 올림 (상한만큼 성공하면 +1)
+ * - 기준값을 넘으면 같은 폭으로 천천히 내림 (서버 대기열이 쌓이기 시작한 신호)
+ * - 과부하 응답이면 상한을 절반으로 내림 (동시에 실패한 요청들로 여러 번 줄지 않도록 최근 응답 시간 간격마다 1회)
+ * - Retry-After를 받으면 그 시간 동안 모든 새 요청을 멈춤
+ * 기준 응답 시간은 BASELINE_WINDOW건마다 그 구간의 최소값으로 갱신해서 시간대별 포털 상태 변화를 따라감.
+ * 대기는 ReentrantLock 조건 변수라 가상 스레드에서도 캐리어 스레드를 점유하지 않음.
+ */
+final class AdaptiveConcurrencyLimiter {
+
+    /** 요청 결과 분류 */
+    enum Outcome {
+        /** 정상 응답 (응답 시간 반영) */
+        SUCCESS,
+        /** 429/503/timeout: 상한 절반으로 */
+        OVERLOAD,
+        /** 그 외 실패·캐시 적중 등: 상한 변화 없음 */
+        IGNORE
+    }
+
+    /** 응답 시간이 기준값의 몇 배까지를 "평탄"으로 볼지 */
+    private static final double LATENCY_TOLERANCE = 2.0;
+    /** 과부하 시 상한 감소 비율 */
+    private static final double BACKOFF_RATIO = 0.5;
+    /** 기준 응답 시간 갱신 주기 (성공 응답 건수) */
+    private static final int BASELINE_WINDOW = 100;
+    /** 연속 과부하 감소 최소 간격 */
+    private static final long MIN_DECREASE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    private final int minLimit;
+    private int maxLimit;
+    /** 현재 상한 (소수점은 누적용, 실제 허용 수는 내림) */
+    private double limit;
+    private int inFlight;
+
+    /** 기준 응답 시간 (ns, 0이면 아직 없음) */
+    private long baselineRttNanos;
+    /** 이번 갱신 구간의 최소 응답 시간과 건수 */
+    private long windowMinRttNanos = Long.MAX_VALUE;
+    private int windowSamples;
+    /** 최근 응답 시간 (지수 이동 평균, ns) */
+    private double smoothedRttNanos;
+
+    private long lastDecreaseNanos;
+    /** 이 시각(System.nanoTime)까지 새 요청 중지 (Retry-After) */
+    private long pausedUntilNanos;
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || maxLimit < minLimit) throw new IllegalArgumentException("상한 범위가 올바르지 않습니다.");
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.lastDecreaseNanos = System.nanoTime();
+    }
+
+    /*
+    요청 1건 시작 허가. 상한이 차 있거나 Retry-After로 멈춘 동안 대기하며, 대기 중 취소되면 CancellationException.
+     */
+    void acquire(CancellationToken cancel) throws InterruptedException {
+        try (CancellationToken.Registration r = cancel.onCancel(this::wakeAll)) {
+            lock.lock();
+            try {
+                while (true) {
+                    cancel.throwIfCancelled();
+                    long pause = pausedUntilNanos - System.nanoTime();
+                    if (pause > 0) {
+                        changed.awaitNanos(pause);
+                    } else if (inFlight < (int) limit) {
+                        inFlight++;
+                        return;
+                    } else {
+                        changed.await();
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /*
+    요청 1건 종료. acquire()마다 정확히 한 번 호출.
+    @param rttNanos 응답 대기 시간 (SUCCESS일 때만 사용)
+     */
+    void release(Outcome outcome, long rttNanos) {
+        lock.lock();
+        try {
+            inFlight--;
+            switch (outcome) {
+                case SUCCESS -> onSuccess(rttNanos);
+                case OVERLOAD -> onOverload();
+                case IGNORE -> { }
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*
+    Retry-After: 지금부터 millis 동안 새 요청 시작 중지 (이미 더 길게 멈춰 있으면 유지)
+     */
+    void pause(long millis) {
+        if (millis <= 0) return;
+        lock.lock();
+        try {
+            long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+            if (until - pausedUntilNanos > 0) pausedUntilNanos = until;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onSuccess(long rttNanos) {
+        smoothedRttNanos = smoothedRttNanos == 0 ? rttNanos : smoothedRttNanos * 0.8 + rttNanos * 0.2;
+        windowMinRttNanos = Math.min(windowMinRttNanos, rttNanos);
+        if (baselineRttNanos == 0 || ++windowSamples >= BASELINE_WINDOW) {
+            baselineRttNanos = windowMinRttNanos;
+            windowMinRttNanos = Long.MAX_VALUE;
+            windowSamples = 0;
+        }
+        if (smoothedRttNanos <= baselineRttNanos * LATENCY_TOLERANCE) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        } else {
+            limit = Math.max(minLimit, limit - 1.0 / limit);
+        }
+    }
+
+    private void onOverload() {
+        long now = System.nanoTime();
+        long interval = Math.max(MIN_DECREASE_INTERVAL_NANOS, (long) smoothedRttNanos);
+        if (now - lastDecreaseNanos < interval) return;
+        lastDecreaseNanos = now;
+        limit = Math.max(minLimit, Math.floor(limit * BACKOFF_RATIO));
+    }
+
+    private void wakeAll() {
+        lock.lock();
+        try {
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 현재 동시 요청 상한 (모니터링용) */
+    int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*
+    상한의 최대값 변경 (현재 상한이 더 크면 함께 낮춤)
+     */
+    void setMaxLimit(int maxLimit) {
+        if (maxLimit < minLimit) throw new IllegalArgumentException("maxLimit는 " + minLimit + " 이상이어야 합니다.");
+        lock.lock();
+        try {
+            this.maxLimit = maxLimit;
+            limit = Math.min(limit, maxLimit);
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package com.softbase.nara.service;
+
+import com.softbase.nara.dto.BidNotice;
+import com.softbase.nara.dto.NoticeDictionary;
+import com.softbase.nara.store.NoticeColumns;
+import com.softbase.nara.store.NoticeTable;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.IntStream;
+
+/**
+ * 조회 결과의 그룹별 금액 통계 (건수, 배정예산금액·추정가격 합계/평균).
+ * 열 형식(NoticeColumns)에서 사전 코드·epochDay·long 금액을 바로 읽어 그룹 번호별 long 배열에 누적하므로
+ * 행마다 BidNotice·문자열을 만들지 않음. 행 구간을 나눠 ForkJoin 공용 풀에서 병렬로 누적한 뒤 배열끼리 더함.
+ * 금액이 없는 행(NO_AMOUNT)은 해당 금액의 합계·평균에서 제외 (건수에는 포함).
+ */
+public final class BidAggregator {
+
+    /** 그룹 기준 */
+    public enum GroupBy {
+        NTCE_INSTT_NM("공고기관명", NoticeDictionary.Field.NTCE_INSTT_NM),
+        DMND_INSTT_NM("수요기관명", NoticeDictionary.Field.DMND_INSTT_NM),
+        BSNS_DIV_NM("업무구분명", NoticeDictionary.Field.BSNS_DIV_NM),
+        CNTRCT_CNCLS_MTHD_NM("계약체결방법명", NoticeDictionary.Field.CNTRCT_CNCLS_MTHD_NM),
+        BID_NTCE_STTUS_NM("공고상태명", NoticeDictionary.Field.BID_NTCE_STTUS_NM),
+        BID_NTCE_DATE("입찰공고일자", null),
+        BID_NTCE_MONTH("입찰공고월", null);
+
+        public final String label;
+        /** 사전 필드 기준이면 해당 필드 (일자 기준은 null) */
+        final NoticeDictionary.Field field;
+
+        GroupBy(String label, NoticeDictionary.Field field) {
+            this.label = label;
+            this.field = field;
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    /** 정렬 기준 (금액·건수는 큰 값부터, 그룹명은 오름차순) */
+    public enum SortKey {
+        ASIGN_BDGT_SUM("배정예산 합계", Comparator.comparingLong(GroupStat::asignBdgtSum).reversed()),
+        ASIGN_BDGT_AVG("배정예산 평균", Comparator.comparingLong(GroupStat::asignBdgtAvg).reversed()),
+        PRESMPT_PRCE_SUM("추정가격 합계", Comparator.comparingLong(GroupStat::presmptPrceSum).reversed()),
+        PRESMPT_PRCE_AVG("추정가격 평균", Comparator.comparingLong(GroupStat::presmptPrceAvg).reversed()),
+        COUNT("건수", Comparator.comparingLong(GroupStat::count).reversed()),
+        KEY("그룹명", (a, b) -> 0);
+
+        public final String label;
+        final Comparator<GroupStat> order;
+
+        SortKey(String label, Comparator<GroupStat> order) {
+            this.label = label;
+            this.order = order.thenComparing(GroupStat::key);
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    /**
+     * 그룹 1개의 통계. 합계·건수는 금액이 있는 행만 (평균 = 합계 / 금액 있는 건수).
+     */
+    public record GroupStat(
+            String key,
+            long count,
+            long asignBdgtCount,
+            long asignBdgtSum,
+            long presmptPrceCount,
+            long presmptPrceSum
+    ) {
+        /*
+        배정예산금액 평균 (원 단위 반올림, 금액 있는 행이 없으면 NO_AMOUNT)
+         */
+        public long asignBdgtAvg() {
+            return average(asignBdgtSum, asignBdgtCount);
+        }
+
+        /*
+        추정가격 평균 (원 단위 반올림, 금액 있는 행이 없으면 NO_AMOUNT)
+         */
+        public long presmptPrceAvg() {
+            return average(presmptPrceSum, presmptPrceCount);
+        }
+
+        private static long average(long sum, long n) {
+            return n == 0 ? BidNotice.NO_AMOUNT : Math.round((double) sum / n);
+        }
+    }
+
+    /**
+     * 집계 결과. groups는 그룹명 오름차순, total은 전체 합계.
+     */
+    public record Result(GroupBy groupBy, int rowCount, List<GroupStat> groups, GroupStat total) {}
+
+    /** 그룹 키 표시 (값 없음) */
+    public static final String EMPTY_KEY = "(없음)";
+
+    /** 잎 작업 최소 행 수 (이보다 작은 구간은 나누지 않음) */
+    private static final int MIN_LEAF_ROWS = 16_384;
+
+    /** 일자 그룹 최대 칸 수 (잘못된 일자로 배열이 터무니없이 커지는 것 방지, 약 100년) */
+    private static final int MAX_DATE_BUCKETS = 36_600;
+
+    private BidAggregator() {
+    }
+
+    /*
+    행 목록 집계. 열 형식이 아닌 목록은 열 형식으로 한 번 변환한 뒤 집계.
+     */
+    public static Result aggregate(List<BidNotice> rows, GroupBy groupBy) {
+        NoticeColumns cols = rows instanceof NoticeColumns c ? c : NoticeTable.of(rows);
+        return aggregate(cols, rows.size(), groupBy);
+    }
+
+    /*
+    열 형식의 앞 rowCount행 집계 (수집 중인 보관소는 공개된 건수까지만 넘김)
+     */
+    public static Result aggregate(NoticeColumns cols, int rowCount, GroupBy groupBy) {
+        if (rowCount < 0 || rowCount > cols.size()) {
+            throw new IllegalArgumentException("rowCount " + rowCount + ", size " + cols.size());
+        }
+        Bucketer bucketer = bucketer(cols, rowCount, groupBy);
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int leafRows = Math.max(MIN_LEAF_ROWS, rowCount / (pool.getParallelism() * 4));
+        Sums sums = rowCount == 0
+                ? new Sums(bucketer.buckets())
+                : pool.invoke(new SumTask(cols, bucketer, 0, rowCount, leafRows));
+
+        List<GroupStat> groups = new ArrayList<>();
+        long[] total = new long[5];
+        for (int b = 0; b < bucketer.buckets(); b++) {
+            if (sums.count[b] == 0) continue;
+            groups.add(new GroupStat(bucketer.key(b), sums.count[b],
+                    sums.asignCount[b], sums.asignSum[b], sums.presmptCount[b], sums.presmptSum[b]));
+            total[0] += sums.count[b];
+            total[1] += sums.asignCount[b];
+            total[2] += sums.asignSum[b];
+            total[3] += sums.presmptCount[b];
+            total[4] += sums.presmptSum[b];
+        }
+        groups.sort(SortKey.KEY.order);
+        GroupStat all = new GroupStat("합계", total[0], total[1], total[2], total[3], total[4]);
+        return new Result(groupBy, rowCount, groups, all);
+    }
+
+    /*
+    정렬 후 상위 n개 (n <= 0이면 전체)
+     */
+    public static List<GroupStat> top(List<GroupStat> groups, SortKey sortKey, int n) {
+        List<GroupStat> sorted = new ArrayList<>(groups);
+        sorted.sort(sortKey.order);
+        return n > 0 && n < sorted.size() ? sorted.subList(0, n) : sorted;
+    }
+
+    /**
+     * 행 → 그룹 번호(0 ~ buckets-1) 변환. 0번은 값 없음.
+     */
+    private interface Bucketer {
+        int buckets();
+
+        int bucket(NoticeColumns cols, int i);
+
+        String key(int bucket);
+    }
+
+    private static Bucketer bucketer(NoticeColumns cols, int rowCount, GroupBy groupBy) {
+        if (groupBy.field != null) return codeBucketer(cols.dictionary(), groupBy.field);
+        IntSummaryStatistics days = IntStream.range(0, rowCount).parallel()
+                .map(cols::bidNtceEpochDay)
+                .filter(d -> d != NoticeColumns.NO_DATE)
+                .summaryStatistics();
+        return groupBy == GroupBy.BID_NTCE_MONTH ? monthBucketer(days) : dayBucketer(days);
+    }
+
+    /*
+    사전 필드 기준: 앞뒤 공백을 뺀 값의 코드가 곧 그룹 번호 (NULL_CODE = 0)
+     */
+    private static Bucketer codeBucketer(NoticeDictionary dict, NoticeDictionary.Field field) {
+        // 집계 대상 행의 코드는 모두 보관소 사전에 이미 등록된 코드이므로 지금의 코드 수로 충분 (이번 조회 세션의 값 종류만큼)
+        int buckets = dict.codeCount(field);
+        return new Bucketer() {
+            @Override
+            public int buckets() {
+                return buckets;
+            }
+
+            @Override
+            public int bucket(NoticeColumns cols, int i) {
+                return dict.trimmedCode(field, cols.code(field, i));
+            }
+
+            @Override
+            public String key(int bucket) {
+                String v = dict.decode(field, bucket);
+                return v == null || v.isEmpty() ? EMPTY_KEY : v;
+            }
+        };
+    }
+
+    /*
+    일자 기준: (epochDay - 최소 일자 + 1)
+     */
+    private static Bucketer dayBucketer(IntSummaryStatistics days) {
+        int min = days.getCount() == 0 ? 0 : days.getMin();
+        int buckets = days.getCount() == 0 ? 1 : checkRange(days.getMax() - min + 2);
+        return new Bucketer() {
+            @Override
+            public int buckets() {
+                return buckets;
+            }
+
+            @Override
+            public int bucket(NoticeColumns cols, int i) {
+                int d = cols.bidNtceEpochDay(i);
+                return d == NoticeColumns.NO_DATE ? 0 : d - min + 1;
+            }
+
+            @Override
+            public String key(int bucket) {
+                return bucket == 0 ? EMPTY_KEY : LocalDate.ofEpochDay(min + bucket - 1L).toString();
+            }
+        };
+    }
+
+    /*
+    월 기준: (연*12 + 월 - 최소 월 + 1)
+     */
+    private static Bucketer monthBucketer(IntSummaryStatistics days) {
+        int min = days.getCount() == 0 ? 0 : monthIndex(days.getMin());
+        int buckets = days.getCount() == 0 ? 1 : checkRange(monthIndex(days.getMax()) - min + 2);
+        return new Bucketer() {
+            @Override
+            public int buckets() {
+                return buckets;
+            }
+
+            @Override
+            public int bucket(NoticeColumns cols, int i) {
+                int d = cols.bidNtceEpochDay(i);
+                return d == NoticeColumns.NO_DATE ? 0 : monthIndex(d) - min + 1;
+            }
+
+            @Override
+            public String key(int bucket) {
+                if (bucket == 0) return EMPTY_KEY;
+                int m = min + bucket - 1;
+                return String.format("%04d-%02d", Math.floorDiv(m, 12), Math.floorMod(m, 12) + 1);
+            }
+        };
+    }
+
+    private static int monthIndex(int epochDay) {
+        LocalDate d = LocalDate.ofEpochDay(epochDay);
+        return d.getYear() * 12 + d.getMonthValue() - 1;
+    }
+
+    private static int checkRange(int buckets) {
+        if (buckets > MAX_DATE_BUCKETS) {
+            throw new IllegalArgumentException("입찰공고일자 범위가 너무 넓음 (" + buckets + "칸)");
+        }
+        return buckets;
+    }
+
+    /**
+     * 그룹 번호별 누적값 (잎 작업마다 1개, 합칠 때 배열끼리 더함)
+     */
+    private static final class Sums {
+        final long[] count;
+        final long[] asignCount;
+        final long[] asignSum;
+        final long[] presmptCount;
+        final long[] presmptSum;
+
+        Sums(int buckets) {
+            count = new long[buckets];
+            asignCount = new long[buckets];
+            asignSum = new long[buckets];
+            presmptCount = new long[buckets];
+            presmptSum = new long[buckets];
+        }
+
+        void add(Sums o) {
+            for (int b = 0; b < count.length; b++) {
+                count[b] += o.count[b];
+                asignCount[b] += o.asignCount[b];
+                asignSum[b] += o.asignSum[b];
+                presmptCount[b] += o.presmptCount[b];
+                presmptSum[b] += o.presmptSum[b];
+            }
+        }
+    }
+
+    /**
+     * 행 구간 [from, to) 누적. leafRows보다 크면 반으로 나눠 한쪽은 fork.
+     */
+    private static final class SumTask extends RecursiveTask<Sums> {
+        private final NoticeColumns cols;
+        private final Bucketer bucketer;
+        private final int from;
+        private final int to;
+        private final int leafRows;
+
+        SumTask(NoticeColumns cols, Bucketer bucketer, int from, int to, int leafRows) {
+            this.cols = cols;
+            this.bucketer = bucketer;
+            this.from = from;
+            this.to = to;
+            this.leafRows = leafRows;
+        }
+
+        @Override
+        protected Sums compute() {
+            if (to - from <= leafRows) return sum();
+            int mid = (from + to) >>> 1;
+            SumTask left = new SumTask(cols, bucketer, from, mid, leafRows);
+            left.fork();
+            Sums right = new SumTask(cols, bucketer, mid, to, leafRows).compute();
+            Sums sums = left.join();
+            sums.add(right);
+            return sums;
+        }
+
+        private Sums sum() {
+            Sums s = new Sums(bucketer.buckets());
+            for (int i = from; i < to; i++) {
+                int b = bucketer.bucket(cols, i);
+                s.count[b]++;
+                long asign = cols.asignBdgtAmt(i);
+                if (asign != BidNotice.NO_AMOUNT) {
+                    s.asignCount[b]++;
+                    s.asignSum[b] += asign;
+                }
+                long presmpt = cols.presmptPrce(i);
+                if (presmpt != BidNotice.NO_AMOUNT) {
+                    s.presmptCount[b]++;
+                    s.presmptSum[b] += presmpt;
+                }
+            }
+            return s;
+        }
+    }
+}
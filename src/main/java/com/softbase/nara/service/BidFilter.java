@@ -0,0 +1,200 @@
+package com.softbase.nara.service;
+
+import com.softbase.nara.dto.BidItemColumn;
+import com.softbase.nara.dto.BidNotice;
+import com.softbase.nara.dto.NoticeDictionary;
+import com.softbase.nara.search.KeywordMatcher;
+import com.softbase.nara.store.NoticeTable;
+
+/**
+ * 조회 조건(최소 배정예산금액·공고명 검색어·업무구분명)을 조회 1건당 한 번만 해석해 둔 필터.
+ * 금액 기준은 long으로, 검색어는 Aho-Corasick 매처(KeywordMatcher)로, 업무구분명은 intern된 값으로 보관.
+ * 파싱 단계에서 API 원본 값 배열(KEY_LIST 순서)에 바로 적용해 탈락한 item은 행(BidNotice)으로 만들지 않음.
+ * 불변 객체라 여러 페이지 작업에서 공유해도 안전.
+ */
+public final class BidFilter {
+
+    /** 조건 없음 (모두 통과) */
+    public static final BidFilter NONE = new BidFilter(false, 0, false, false, null, null);
+
+    private static final int IDX_BID_NTCE_NM = BidItemColumn.KEY_LIST.indexOf("bidNtceNm");
+    private static final int IDX_BSNS_DIV_NM = BidItemColumn.KEY_LIST.indexOf("bsnsDivNm");
+    private static final int IDX_ASIGN_BDGT_AMT = BidItemColumn.KEY_LIST.indexOf("asignBdgtAmt");
+
+    /** 최소 배정예산금액 조건 사용 여부 */
+    private final boolean amountOn;
+    /** 최소 배정예산금액 (원) */
+    private final long minAsignBdgtAmt;
+    /** 최소 금액 입력이 숫자가 아니면 모든 행 탈락 (기존 동작 유지) */
+    private final boolean amountInvalid;
+    /** 검색어 조건 사용 여부 */
+    private final boolean keywordOn;
+    /** 검색어 Aho-Corasick 매처 (공고명 1회 순회로 모든 검색어 확인) */
+    private final KeywordMatcher keywords;
+    /** 업무구분명 조건 (null이면 조건 없음) */
+    private final String bsnsDivNm;
+    /** 정규화한 조건 문자열 (같은 조건이면 입력 표기와 관계없이 같은 값) */
+    private final String key;
+
+    private BidFilter(boolean amountOn, long minAsignBdgtAmt, boolean amountInvalid,
+                      boolean keywordOn, KeywordMatcher keywords, String bsnsDivNm) {
+        this.amountOn = amountOn;
+        this.minAsignBdgtAmt = minAsignBdgtAmt;
+        this.amountInvalid = amountInvalid;
+        this.keywordOn = keywordOn;
+        this.keywords = keywords;
+        this.bsnsDivNm = bsnsDivNm;
+        this.key = buildKey();
+    }
+
+    /*
+    조회 조건 문자열을 해석해 필터 생성. 각 조건은 null/빈 문자열이면 사용하지 않음.
+    - minAsignBdgtAmt: 최소 배정예산금액(원, 쉼표 허용)
+    - searchKeywords: 쉼표 구분 키워드. 공고명(bidNtceNm)에 하나라도 포함되면 통과(OR).
+    - bsnsDivNmFilter: "물품" 또는 "용역". 업무구분명(bsnsDivNm)이 일치하는 행만 통과.
+     */
+    public static BidFilter compile(String minAsignBdgtAmt, String searchKeywords, String bsnsDivNmFilter) {
+        boolean amountOn = minAsignBdgtAmt != null && !minAsignBdgtAmt.trim().isEmpty();
+        long min = 0;
+        boolean amountInvalid = false;
+        if (amountOn) {
+            try {
+                min = Long.parseLong(minAsignBdgtAmt.replace(",", "").trim());
+            } catch (NumberFormatException e) {
+                amountInvalid = true;
+            }
+        }
+
+        boolean keywordOn = searchKeywords != null && !searchKeywords.trim().isEmpty();
+        KeywordMatcher kws = keywordOn ? KeywordMatcher.compile(searchKeywords) : null;
+
+        String div = (bsnsDivNmFilter == null || bsnsDivNmFilter.trim().isEmpty())
+                ? null : bsnsDivNmFilter.trim().intern();
+
+        if (!amountOn && !keywordOn && div == null) return NONE;
+        return new BidFilter(amountOn, min, amountInvalid, keywordOn, kws, div);
+    }
+
+    /*
+    조건이 하나도 없는지 여부
+     */
+    public boolean isEmpty() {
+        return !amountOn && !keywordOn && bsnsDivNm == null;
+    }
+
+    /*
+    정규화한 조건 문자열 (결과 캐시·중복 요청 합치기의 키).
+    금액은 쉼표를 뺀 숫자로, 검색어는 trim·중복 제거한 목록(매칭키워드 컬럼 순서가 달라지므로 입력 순서 유지)으로 표기.
+     */
+    public String key() {
+        return key;
+    }
+
+    private String buildKey() {
+        if (!amountOn && !keywordOn && bsnsDivNm == null) return "";
+        StringBuilder sb = new StringBuilder();
+        if (amountOn) sb.append("amt=").append(amountInvalid ? "invalid" : String.valueOf(minAsignBdgtAmt));
+        if (keywordOn) {
+            sb.append("|kw=");
+            for (int i = 0; i < keywords.size(); i++) {
+                if (i > 0) sb.append(',');
+                sb.append(keywords.keyword(i));
+            }
+        }
+        if (bsnsDivNm != null) sb.append("|div=").append(bsnsDivNm);
+        return sb.toString();
+    }
+
+    /*
+    API 원본 값 배열(KEY_LIST 순서) 기준 통과 여부. 비용이 싼 조건부터 확인.
+     */
+    public boolean test(String[] values) {
+        if (bsnsDivNm != null && !matchesBsnsDivNm(values[IDX_BSNS_DIV_NM])) return false;
+        if (amountOn && !isMinAsignBdgtAmt(BidNotice.parseAmount(values[IDX_ASIGN_BDGT_AMT]))) return false;
+        if (keywordOn && !matchesSearchKeywords(values[IDX_BID_NTCE_NM])) return false;
+        return true;
+    }
+
+    /*
+    API 원본 값 배열에 필터를 적용하고, 통과하면 행(BidNotice) 생성 (탈락 시 null).
+    검색어 조건이 있으면 공고명에 포함된 검색어 목록을 "매칭키워드" 컬럼 값으로 함께 기록.
+     */
+    public BidNotice toRow(String[] values) {
+        if (bsnsDivNm != null && !matchesBsnsDivNm(values[IDX_BSNS_DIV_NM])) return null;
+        if (amountOn && !isMinAsignBdgtAmt(BidNotice.parseAmount(values[IDX_ASIGN_BDGT_AMT]))) return null;
+        String matched = "";
+        if (keywordOn) {
+            matched = keywords.matchedKeywords(values[IDX_BID_NTCE_NM]);
+            if (matched.isEmpty()) return null;
+        }
+        return BidNotice.fromValues(values, matched);
+    }
+
+    /*
+    이미 만들어진 행(필터 없이 수집해 보관해 둔 원본 행)에 필터 적용. 통과하면 매칭키워드를 이 조건 기준으로 바꾼 행, 탈락 시 null.
+     */
+    public BidNotice toRow(BidNotice row) {
+        if (bsnsDivNm != null && !matchesBsnsDivNm(row.bsnsDivNm())) return null;
+        if (amountOn && !isMinAsignBdgtAmt(row.asignBdgtAmt())) return null;
+        String matched = "";
+        if (keywordOn) {
+            matched = keywords.matchedKeywords(row.bidNtceNm());
+            if (matched.isEmpty()) return null;
+        }
+        return row.withMatchedKeywords(matched);
+    }
+
+    /*
+    보관 원본(NoticeTable)의 i번째 행에 필터 적용. 통과하면 행 생성, 탈락 시 null.
+    업무구분명은 표 사전에서 공백 제거 값의 대표 문자열을 찾아 비교 (값 종류가 몇 개뿐이라 대개 같은 인스턴스).
+     */
+    public BidNotice toRow(NoticeTable table, int i) {
+        if (bsnsDivNm != null && !matchesBsnsDivCode(table.dictionary(), table.code(NoticeDictionary.Field.BSNS_DIV_NM, i))) return null;
+        if (amountOn && !isMinAsignBdgtAmt(table.asignBdgtAmt(i))) return null;
+        String matched = "";
+        if (keywordOn) {
+            matched = keywords.matchedKeywords(table.bidNtceNm(i));
+            if (matched.isEmpty()) return null;
+        }
+        return table.row(i, matched);
+    }
+
+    /*
+    이미 만들어진 행 기준 통과 여부
+     */
+    public boolean test(BidNotice row) {
+        if (bsnsDivNm != null && !matchesBsnsDivNm(row.bsnsDivNm())) return false;
+        if (amountOn && !isMinAsignBdgtAmt(row.asignBdgtAmt())) return false;
+        if (keywordOn && !matchesSearchKeywords(row.bidNtceNm())) return false;
+        return true;
+    }
+
+    /*
+    최소 배정예산금액 조건 확인 (금액 없음은 탈락)
+    */
+    private boolean isMinAsignBdgtAmt(long asignBdgtAmt) {
+        if (asignBdgtAmt == BidNotice.NO_AMOUNT || amountInvalid) return false;
+        return asignBdgtAmt >= minAsignBdgtAmt;
+    }
+
+    /*
+    공고명(bidNtceNm)이 검색 키워드 중 하나라도 포함하는지 확인 (OR).
+     */
+    private boolean matchesSearchKeywords(String bidNtceNm) {
+        return keywords.matchesAny(bidNtceNm);
+    }
+
+    private boolean matchesBsnsDivCode(NoticeDictionary dict, int rowCode) {
+        NoticeDictionary.Field f = NoticeDictionary.Field.BSNS_DIV_NM;
+        return bsnsDivNm.equals(dict.decode(f, dict.trimmedCode(f, rowCode)));
+    }
+
+    /*
+    업무구분명(bsnsDivNm)이 선택한 업무구분("물품"/"용역")과 일치하는지 확인.
+     */
+    private boolean matchesBsnsDivNm(String rowBsnsDivNm) {
+        if (rowBsnsDivNm == null) return false;
+        String v = rowBsnsDivNm.trim();
+        return bsnsDivNm.equals(v);
+    }
+}
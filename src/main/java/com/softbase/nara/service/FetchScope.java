@@ -0,0 +1,93 @@
+package com.softbase.nara.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 조회 1건(페이지 수집)의 하위 작업 묶음.
+ * 하위 작업마다 가상 스레드 1개를 쓰므로 HTTP 대기 중인 작업이 많아도 플랫폼 스레드를 점유하지 않음.
+ * 하나라도 실패하면 나머지 작업을 모두 취소(인터럽트)하고 join()에서 첫 실패를 다시 던짐 (ShutdownOnFailure 방식).
+ * try-with-resources로 사용하며, close() 시 남은 작업을 모두 정리한 뒤 반환.
+ * (Java 21의 StructuredTaskScope는 preview API라 같은 규칙을 Executor 위에 직접 구현)
+ */
+final class FetchScope<T> implements AutoCloseable {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final List<Future<T>> futures = new ArrayList<>();
+    /** 첫 번째 실패 원인 */
+    private final AtomicReference<Exception> failure = new AtomicReference<>();
+
+    /*
+    하위 작업 시작. 반환된 Future는 fork 순서대로 join() 이후 결과 조회에 사용.
+     */
+    Future<T> fork(Callable<T> task) throws Exception {
+        Future<T> f;
+        try {
+            f = executor.submit(() -> {
+                try {
+                    return task.call();
+                } catch (Exception e) {
+                    if (failure.compareAndSet(null, e)) {
+                        executor.shutdownNow();
+                    }
+                    throw e;
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 다른 작업 실패로 이미 종료된 경우 그 원인을 우선 전달
+            throwIfFailed();
+            throw e;
+        }
+        futures.add(f);
+        return f;
+    }
+
+    /*
+    외부 취소: 아직 실패가 없으면 CancellationException을 실패 원인으로 기록하고 모든 작업을 인터럽트.
+     */
+    void cancel() {
+        failure.compareAndSet(null, new CancellationException("작업이 취소되었습니다."));
+        executor.shutdownNow();
+    }
+
+    /*
+    이미 실패한 하위 작업이 있으면 그 예외를 던짐 (새 작업을 더 시작하기 전 확인용).
+     */
+    void throwIfFailed() throws Exception {
+        Exception e = failure.get();
+        if (e != null) throw e;
+    }
+
+    /*
+    모든 하위 작업 완료까지 대기. 실패가 있으면 첫 실패 예외를 던짐.
+    @return fork 순서대로의 결과 목록
+     */
+    List<T> join() throws Exception {
+        List<T> results = new ArrayList<>(futures.size());
+        for (Future<T> f : futures) {
+            try {
+                results.add(f.get());
+            } catch (CancellationException | ExecutionException e) {
+                throwIfFailed();
+                throw e;
+            }
+        }
+        throwIfFailed();
+        return results;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(60, TimeUnit.SECONDS);
+    }
+}
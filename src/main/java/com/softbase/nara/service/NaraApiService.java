@@ -1,34 +1,163 @@
 package com.softbase.nara.service;
 
+import com.softbase.nara.cache.PageDiskCache;
+import com.softbase.nara.client.CancellationToken;
 import com.softbase.nara.client.NaraApiClient;
+import com.softbase.nara.client.NaraApiException;
+import com.softbase.nara.client.NaraHttpException;
 import com.softbase.nara.dto.BidItemColumn;
+import com.softbase.nara.dto.BidNotice;
 import com.softbase.nara.dto.GridResult;
+import com.softbase.nara.dto.NoticeDictionary;
+import com.softbase.nara.metrics.NaraMetrics;
 import com.softbase.nara.parser.NaraResponseParser;
+import com.softbase.nara.parser.NaraStreamingParser;
+import com.softbase.nara.store.NoticeTable;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
+import org.json.simple.parser.ParseException;
 
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
 
 /**
  * 나라장터 API 비즈니스 로직: 클라이언트 호출 + 응답 파싱 + 필터링 + 페이지 수집.
  * UI·HTTP·설정은 의존하지 않고, DTO·Client·Parser에만 의존.
+ * 수집 메서드는 CancellationToken을 받는 버전이 있으며, 취소되면 진행 중인 HTTP 요청을 중단하고
+ * 아직 시작하지 않은 페이지는 호출하지 않은 채 CancellationException을 던짐.
+ * 페이지 결과는 최근 결과 메모리 캐시에 잠시 보관하고, 동시에 들어온 같은 요청은 하나의 호출로 합침.
+ * 화면 조회처럼 원본 보관을 요청한 수집(fetchRange retainWindow)은 최근 몇 개 기간의 필터 전 원본을 보관해 두고,
+ * 같은 기간을 조건만 바꿔 다시 조회하면 메모리에서 필터만 다시 적용. 파일 저장·배치처럼 sink로 흘려보내는 수집은 보관하지 않음.
  */
 public final class NaraApiService {
 
     private static final Logger log = Logger.getLogger(NaraApiService.class.getName());
     private final NaraApiClient client = NaraApiClient.getInstance();
 
+    /** 단계별 지표 (파싱·필터·페이지 수집 시간, 재시도, 통과/탈락 건수) */
+    private final NaraMetrics metrics = NaraMetrics.getInstance();
+
+    /** 정상 응답(resultCode 00) 판별용 */
+    private static final Pattern RESULT_CODE_OK = Pattern.compile("\"resultCode\"\\s*:\\s*\"00\"");
+
+    /** API 응답 디스크 캐시 (null이면 캐시 없이 항상 API 호출) */
+    private volatile PageDiskCache pageCache = PageDiskCache.createDefault();
+
+    /*
+    디스크 캐시 교체 (null: 캐시 사용 안 함).
+     */
+    public void setPageCache(PageDiskCache pageCache) {
+        this.pageCache = pageCache;
+    }
+
+    public PageDiskCache getPageCache() {
+        return pageCache;
+    }
+
+    /** 메모리 결과 캐시 무게 상한 (페이지 결과 1개 = 행 수 + 1) */
+    private static final long RECENT_PAGES_MAX_ROWS = 50_000;
+    /** 구간 totalCount 보관 개수 상한 */
+    private static final long RECENT_TOTAL_COUNTS_MAX = 10_000;
+    /** 메모리 결과 캐시 유효 시간 (같은 화면 작업 안의 반복 요청용이라 디스크 캐시 최근 기간 TTL보다 짧게) */
+    private static final long RECENT_RESULT_TTL_MS = 5 * 60 * 1000L;
+
+    /** 최근 페이지 결과 (요청 파라미터 + 필터 조건 → 필터 적용 결과). 보관본은 수정하지 않고 복사해서 반환 */
+    private final RecentResultCache<String, GridResult> recentPages =
+            new RecentResultCache<>(RECENT_PAGES_MAX_ROWS, RECENT_RESULT_TTL_MS, gr -> gr.rows.size() + 1L);
+
+    /** 최근 구간 totalCount (baseUrl + 기간 → totalCount). 정상 응답 어느 페이지에서든 기록해 totalCount 조회 호출을 생략 */
+    private final RecentResultCache<String, Long> recentTotalCounts =
+            new RecentResultCache<>(RECENT_TOTAL_COUNTS_MAX, RECENT_RESULT_TTL_MS, n -> 1);
+
+    /** 동시에 들어온 같은 페이지 요청 합치기 */
+    private final SingleFlight<String, GridResult> pageFlights = new SingleFlight<>();
+
+    /** 원본(필터 전) 결과를 보관할 최근 기간 수 기본값 (보관을 요청한 수집에만 적용) */
+    private static final int DEFAULT_RAW_WINDOWS = 3;
+    /** 보관 원본 행 수 합계 상한 (이보다 큰 기간은 보관하지 않음) */
+    private static final long RAW_WINDOW_MAX_ROWS = 300_000;
+    /** 원본 결과 유효 시간 (같은 기간에 조건을 바꿔 가며 다시 조회하는 동안 유지) */
+    private static final long RAW_WINDOW_TTL_MS = 30 * 60 * 1000L;
+
+    /**
+     * 원본 보관을 요청해 수집한 최근 기간의 원본 행 (baseUrl + 기간 → 필터 전 전체 행, 반복 값은 사전 코드로 저장한 열 형식).
+     * 보관 중인 기간은 조건만 바꿔 다시 조회하면 API 호출 없이 메모리에서 필터만 다시 적용함. null이면 보관 안 함.
+     */
+    private volatile RecentResultCache<String, NoticeTable> rawWindows = newRawWindows(DEFAULT_RAW_WINDOWS);
+
+    /** 메모리 결과 캐시·요청 합치기·원본 보관 사용 여부 (부하 테스트 등에서 매번 API를 호출해야 할 때 끔) */
+    private volatile boolean resultReuse = true;
+
+    private static RecentResultCache<String, NoticeTable> newRawWindows(int windows) {
+        return windows == 0 ? null : new RecentResultCache<>(windows, RAW_WINDOW_MAX_ROWS, RAW_WINDOW_TTL_MS, NoticeTable::size);
+    }
+
+    /*
+    원본(필터 전) 결과를 보관할 최근 기간 수 변경 (0: 보관 안 함, 기본 3). 보관 중이던 기간은 비움.
+    보관을 요청한 수집은 필터 없이 수집하므로 조건 탈락 행까지 파싱·보관하는 비용이 듦.
+     */
+    public void setRawWindowRetention(int windows) {
+        if (windows < 0) throw new IllegalArgumentException("windows는 0 이상이어야 합니다.");
+        rawWindows = newRawWindows(windows);
+    }
+
+    /*
+    기간 원본이 메모리에 보관되어 있는지 (true면 이 기간의 조건 조회는 API 호출 없이 끝남)
+     */
+    public boolean hasRetainedWindow(String baseUrl, String bidNtceBgnDt, String bidNtceEndDt) {
+        RecentResultCache<String, NoticeTable> raw = retainedWindows();
+        return raw != null && raw.get(windowKey(baseUrl, bidNtceBgnDt, bidNtceEndDt)) != null;
+    }
+
+    /*
+    원본 보관소 (결과 재사용을 끈 경우 null)
+     */
+    private RecentResultCache<String, NoticeTable> retainedWindows() {
+        return resultReuse ? rawWindows : null;
+    }
+
+    /*
+    메모리 결과 캐시·요청 합치기 사용 여부 변경 (끄면 보관 중인 결과도 비움)
+     */
+    public void setResultReuse(boolean resultReuse) {
+        this.resultReuse = resultReuse;
+        if (!resultReuse) clearRecentResults();
+    }
+
+    public boolean isResultReuse() {
+        return resultReuse;
+    }
+
+    /*
+    메모리 결과 캐시 비우기 (디스크 캐시는 그대로)
+     */
+    public void clearRecentResults() {
+        recentPages.clear();
+        recentTotalCounts.clear();
+        RecentResultCache<String, NoticeTable> raw = rawWindows;
+        if (raw != null) raw.clear();
+    }
+
     /**
      * API 1회 호출 후 JSON 문자열 반환 (HTTP만 담당하도록 Client에 위임).
+     * 디스크 캐시에 같은 요청(기간·페이지)의 유효한 응답이 있으면 API를 호출하지 않음.
      */
     public String callApi(
             String baseUrl,
@@ -41,18 +170,200 @@ public final class NaraApiService {
             int connTimeoutMs,
             int requestTimeoutMs
     ) throws Exception {
-        return client.get(
+        return callApi(baseUrl, serviceKey, numOfRows, pageNo, bidNtceBgnDt, bidNtceEndDt, type,
+                connTimeoutMs, requestTimeoutMs, CancellationToken.NONE);
+    }
+
+    /*
+    callApi()의 취소 가능 버전
+     */
+    public String callApi(
+            String baseUrl,
+            String serviceKey,
+            String numOfRows,
+            String pageNo,
+            String bidNtceBgnDt,
+            String bidNtceEndDt,
+            String type,
+            int connTimeoutMs,
+            int requestTimeoutMs,
+            CancellationToken cancel
+    ) throws Exception {
+        PageDiskCache cache = "json".equals(type) ? pageCache : null;
+        String key = null;
+        if (cache != null) {
+            key = PageDiskCache.key(baseUrl, bidNtceBgnDt, bidNtceEndDt, numOfRows, pageNo);
+            String cached = cache.getString(key);
+            if (cached != null) {
+                metrics.recordCacheHit();
+                return cached;
+            }
+        }
+        String body = client.get(
+                baseUrl, serviceKey, numOfRows, pageNo,
+                bidNtceBgnDt, bidNtceEndDt, type,
+                connTimeoutMs, requestTimeoutMs, cancel
+        );
+        if (cache != null && RESULT_CODE_OK.matcher(body).find()) {
+            cache.put(key, bidNtceEndDt, body.getBytes(StandardCharsets.UTF_8));
+        }
+        return body;
+    }
+
+    /**
+     * API 1회 비동기 호출. 응답 JSON 문자열로 완료되는 CompletableFuture 반환.
+     */
+    public CompletableFuture<String> callApiAsync(
+            String baseUrl,
+            String serviceKey,
+            String numOfRows,
+            String pageNo,
+            String bidNtceBgnDt,
+            String bidNtceEndDt,
+            String type,
+            int connTimeoutMs,
+            int requestTimeoutMs
+    ) {
+        return client.getAsync(
                 baseUrl, serviceKey, numOfRows, pageNo,
                 bidNtceBgnDt, bidNtceEndDt, type,
                 connTimeoutMs, requestTimeoutMs
         );
     }
 
+    /**
+     * API 1회 호출 후 응답 본문 스트림 반환 (문자열 버퍼링 없음). 스트림은 호출자가 닫아야 함.
+     * 디스크 캐시 적중 시 캐시 파일 스트림을, 미스 시 캐시에 기록하면서 읽는 PageDiskCache.Recorder를 반환.
+     * Recorder는 호출자가 응답을 정상 처리한 뒤 commit()해야 캐시에 반영됨.
+     */
+    public InputStream callApiStream(
+            String baseUrl,
+            String serviceKey,
+            String numOfRows,
+            String pageNo,
+            String bidNtceBgnDt,
+            String bidNtceEndDt,
+            String type,
+            int connTimeoutMs,
+            int requestTimeoutMs
+    ) throws Exception {
+        return callApiStream(baseUrl, serviceKey, numOfRows, pageNo, bidNtceBgnDt, bidNtceEndDt, type,
+                connTimeoutMs, requestTimeoutMs, CancellationToken.NONE);
+    }
+
+    /*
+    callApiStream()의 취소 가능 버전 (본문을 읽는 중 취소되면 다음 read()에서 CancellationException)
+     */
+    public InputStream callApiStream(
+            String baseUrl,
+            String serviceKey,
+            String numOfRows,
+            String pageNo,
+            String bidNtceBgnDt,
+            String bidNtceEndDt,
+            String type,
+            int connTimeoutMs,
+            int requestTimeoutMs,
+            CancellationToken cancel
+    ) throws Exception {
+        PageDiskCache cache = "json".equals(type) ? pageCache : null;
+        String key = null;
+        if (cache != null) {
+            key = PageDiskCache.key(baseUrl, bidNtceBgnDt, bidNtceEndDt, numOfRows, pageNo);
+            InputStream cached = cache.open(key);
+            if (cached != null) {
+                metrics.recordCacheHit();
+                return cached;
+            }
+        }
+        return openApiStream(baseUrl, serviceKey, numOfRows, pageNo, bidNtceBgnDt, bidNtceEndDt, type,
+                connTimeoutMs, requestTimeoutMs, cancel, cache, key);
+    }
+
+    /*
+    API 호출 응답 스트림 (디스크 캐시 확인 없음). cache가 있으면 캐시에 기록하면서 읽는 Recorder로 감쌈.
+     */
+    private InputStream openApiStream(
+            String baseUrl,
+            String serviceKey,
+            String numOfRows,
+            String pageNo,
+            String bidNtceBgnDt,
+            String bidNtceEndDt,
+            String type,
+            int connTimeoutMs,
+            int requestTimeoutMs,
+            CancellationToken cancel,
+            PageDiskCache cache,
+            String key
+    ) throws Exception {
+        InputStream in = client.getStream(
+                baseUrl, serviceKey, numOfRows, pageNo,
+                bidNtceBgnDt, bidNtceEndDt, type,
+                connTimeoutMs, requestTimeoutMs, cancel
+        );
+        if (cache == null) return in;
+        try {
+            return cache.record(in, key, bidNtceEndDt);
+        } catch (IOException e) {
+            log.log(Level.FINE, "페이지 캐시 기록 시작 실패", e);
+            return in;
+        }
+    }
+
+    /*
+    응답 스트림을 스트리밍 파서로 읽어 그리드용 결과로 변환 (메타 + 결과 목록).
+    DOM을 만들지 않고 BidItemColumn.KEY_LIST 필드만 뽑아 행을 만듦. 결과는 toGridRows(String)과 동일.
+     */
+    public GridResult toGridRows(InputStream in) throws Exception {
+        return toGridRows(in, BidFilter.NONE);
+    }
+
+    /*
+    응답 스트림을 파싱하면서 바로 필터 적용. 조건에서 탈락한 item은 행(BidNotice)으로 만들지 않음.
+    GridResult.rawCount에는 필터 전 item 건수를 기록.
+     */
+    public GridResult toGridRows(InputStream in, BidFilter filter) throws Exception {
+        long startNanos = System.nanoTime();
+        GridResult gr = new GridResult();
+        NaraStreamingParser parser = new NaraStreamingParser();
+        long[] filterNanos = {0};
+        try {
+            parser.parse(in, values -> {
+                BidNotice row = applyFilter(filter, values, filterNanos);
+                if (row != null) gr.rows.add(row);
+            });
+        } catch (IllegalArgumentException e) {
+            // 오류 응답은 body 없이 header만 오기도 함: 결과코드가 있으면 구조 오류 대신 결과코드 오류로 전달
+            String code = parser.getResultCode();
+            if (!code.isEmpty() && !NaraApiException.isOk(code)) {
+                throw new NaraApiException(code, parser.getResultMsg());
+            }
+            throw e;
+        }
+
+        gr.resultCode = parser.getResultCode();
+        gr.resultMsg = parser.getResultMsg();
+        gr.numOfRows = parser.getNumOfRows();
+        gr.pageNo = parser.getPageNo();
+        gr.totalCount = parser.getTotalCount();
+        gr.rawCount = parser.getItemCount();
+        recordParse(gr, System.nanoTime() - startNanos, filter, filterNanos[0]);
+        return gr;
+    }
+
     /*
     JSON 문자열을 그리드용 결과로 변환 (메타 + 결과 목록).
      */
     public GridResult toGridRows(String jsonData) throws Exception {
-        long startMs = System.currentTimeMillis();
+        return toGridRows(jsonData, BidFilter.NONE);
+    }
+
+    /*
+    JSON 문자열을 그리드용 결과로 변환하면서 필터 적용 (탈락 item은 행으로 만들지 않음).
+     */
+    public GridResult toGridRows(String jsonData, BidFilter filter) throws Exception {
+        long startNanos = System.nanoTime();
         JSONObject response = NaraResponseParser.getResponse(jsonData);
         JSONObject header = NaraResponseParser.getResponseHeader(response);
         JSONObject body = NaraResponseParser.getResponseBody(response);
@@ -65,28 +376,43 @@ public final class NaraApiService {
         gr.totalCount = toLong(body.get("totalCount"));
 
         JSONArray items = NaraResponseParser.getItemArray(body);
+        long[] filterNanos = {0};
         for (int i = 0; i < items.size(); i++) {
             Object obj = items.get(i);
             if (!(obj instanceof JSONObject)) continue;
             JSONObject item = (JSONObject) obj;
 
-            LinkedHashMap<String, String> row = new LinkedHashMap<>();
-            row.put("순번", String.valueOf(i + 1));
-
-            for (String key : BidItemColumn.KEY_LIST) {
-                String val = NaraResponseParser.getAsString(item, key);
-                if ("asignBdgtAmt".equals(key) || "presmptPrce".equals(key)) {
-                    val = formatAmount(val);
-                }
-                row.put(key, val);
+            String[] values = new String[BidItemColumn.KEY_LIST.size()];
+            for (int k = 0; k < values.length; k++) {
+                values[k] = NaraResponseParser.getAsString(item, BidItemColumn.KEY_LIST.get(k));
             }
-            gr.rows.add(row);
+            gr.rawCount++;
+            BidNotice row = applyFilter(filter, values, filterNanos);
+            if (row != null) gr.rows.add(row);
         }
-        long elapsedMs = System.currentTimeMillis() - startMs;
-        log.info(String.format("[시간측정] toGridRows(파싱) | rows=%d | %d ms", gr.rows.size(), elapsedMs));
+        recordParse(gr, System.nanoTime() - startNanos, filter, filterNanos[0]);
         return gr;
     }
 
+    /*
+    필터 적용. 조건이 있을 때만 소요 시간을 filterNanos[0]에 누적 (조건 없으면 시간 측정 생략).
+     */
+    private static BidNotice applyFilter(BidFilter filter, String[] values, long[] filterNanos) {
+        if (filter.isEmpty()) return filter.toRow(values);
+        long t0 = System.nanoTime();
+        BidNotice row = filter.toRow(values);
+        filterNanos[0] += System.nanoTime() - t0;
+        return row;
+    }
+
+    /*
+    페이지 1개 파싱 지표 기록 (파싱 시간은 필터 시간 제외, 필터 시간은 조건이 있을 때만)
+     */
+    private void recordParse(GridResult gr, long totalNanos, BidFilter filter, long filterNanos) {
+        metrics.recordParse(totalNanos - filterNanos, filterNanos, !filter.isEmpty(),
+                gr.rows.size(), gr.rawCount - gr.rows.size());
+    }
+
     /*
     그리드 결과로 변환한 뒤, 최소 배정예산금액(설계금액) 조건으로 필터링.
     minAsignBdgtAmt가 null/빈 문자열이면 필터 없이 전체 반환.
@@ -101,33 +427,106 @@ public final class NaraApiService {
     - bsnsDivNmFilter: "물품" 또는 "용역". 업무구분명(bsnsDivNm)이 일치하는 행만 통과. null/빈 문자열이면 업무구분 필터 없음.
      */
     public GridResult toGridRows(String jsonData, String minAsignBdgtAmt, String searchKeywords, String bsnsDivNmFilter) throws Exception {
-        GridResult gr = toGridRows(jsonData);
-        if (minAsignBdgtAmt != null && !minAsignBdgtAmt.trim().isEmpty()) {
-            gr.rows.removeIf(row -> !isMinAsignBdgtAmt(row.get("asignBdgtAmt"), minAsignBdgtAmt));
-        }
-        if (searchKeywords != null && !searchKeywords.trim().isEmpty()) {
-            gr.rows.removeIf(row -> !matchesSearchKeywords(row.get("bidNtceNm"), searchKeywords));
-        }
-        if (bsnsDivNmFilter != null && !bsnsDivNmFilter.trim().isEmpty()) {
-            gr.rows.removeIf(row -> !matchesBsnsDivNm(row.get("bsnsDivNm"), bsnsDivNmFilter));
-        }
-        for (int i = 0; i < gr.rows.size(); i++) {
-            gr.rows.get(i).put("순번", String.valueOf(i + 1));
+        return toGridRows(jsonData, BidFilter.compile(minAsignBdgtAmt, searchKeywords, bsnsDivNmFilter));
+    }
+
+    /*
+    화면 페이지 1개 조회 (API 페이지 그대로, 조건은 해당 페이지 안에서만 필터링).
+    수집 메서드와 같은 경로(메모리 캐시·요청 합치기·속도 제한·재시도)를 거치므로
+    이미 본 페이지로 돌아가거나 같은 페이지를 연달아 요청하면 API를 다시 호출하지 않음.
+    취소되면 CancellationException.
+     */
+    public GridResult fetchPage(
+            String baseUrl,
+            String serviceKey,
+            String numOfRows,
+            String pageNo,
+            String bidNtceBgnDt,
+            String bidNtceEndDt,
+            String minAsignBdgtAmt,
+            String searchKeywords,
+            String bsnsDivNmFilter,
+            int connTimeoutMs,
+            int requestTimeoutMs,
+            CancellationToken cancel
+    ) throws Exception {
+        long startNanos = System.nanoTime();
+        FetchContext ctx = new FetchContext(baseUrl, serviceKey,
+                BidFilter.compile(minAsignBdgtAmt, searchKeywords, bsnsDivNmFilter),
+                connTimeoutMs, requestTimeoutMs, 1, cancel);
+        GridResult gr;
+        try {
+            gr = fetchGrid(ctx, numOfRows, pageNo, bidNtceBgnDt, bidNtceEndDt, ctx.filter);
+        } catch (Exception e) {
+            throw asCancellationIfCancelled(e, cancel);
         }
+        metrics.pageFetch().recordNanos(System.nanoTime() - startNanos);
         return gr;
     }
 
-    /** 문서 가이드: 동시 요청 수 3~5 권장, 초당 30 tps 이하 */
-    private static final int PARALLEL_CONCURRENCY = 5;
-    /** 배치 간 최소 간격(ms) — 30 tps 이하 유지용 */
-    private static final int BATCH_DELAY_MS = 200;
+    /** 문서 가이드: 동시 요청 수 3~5 권장 → 적응형 동시 요청 상한의 시작값 */
+    private static final int INITIAL_CONCURRENCY = 5;
+    /** 적응형 상한이 올라갈 수 있는 최대값 (= 조회 1건당 대기 페이지 슬롯 수) */
+    private static final int DEFAULT_MAX_IN_FLIGHT = 10;
+    /** 문서 가이드: 초당 30 tps 이하 → 충전 속도 + 버스트 합이 30을 넘지 않도록 설정 */
+    private static final double RATE_LIMIT_TPS = 25;
+    private static final int RATE_LIMIT_BURST = 5;
+    /** 재시도 가능한 실패(과부하·timeout·5xx·연결 오류)의 최대 시도 횟수 */
+    private static final int MAX_ATTEMPTS = 4;
+    /** 그 외 예기치 못한 실패(파싱 오류 등)의 최대 시도 횟수 */
+    private static final int MAX_ATTEMPTS_OTHER = 2;
+    private static final long INITIAL_BACKOFF_MS = 500;
+    private static final long MAX_BACKOFF_MS = 8_000;
+    /** Retry-After가 비정상적으로 길어도 이 이상은 기다리지 않음 */
+    private static final long MAX_RETRY_AFTER_MS = 60_000;
+    /** 해석하지 못한 응답 본문을 오류 메시지에 담기 위해 되돌려 읽을 수 있게 남겨 두는 앞부분 크기 */
+    private static final int ERROR_PREVIEW_BYTES = 8192;
+    /** 오류 메시지에 담는 본문 앞부분 길이 (바이트) */
+    private static final int ERROR_PREVIEW_LENGTH = 300;
+
+    /** API 호출 속도 제한 (서비스 전체 공유, 재시도 호출 포함) */
+    private final TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(RATE_LIMIT_TPS, RATE_LIMIT_BURST);
+
+    /** 동시 요청 수 적응형 제한 (서비스 전체 공유): 응답 시간이 평탄하면 늘리고 429/503/timeout이면 절반으로 */
+    private final AdaptiveConcurrencyLimiter concurrency =
+            new AdaptiveConcurrencyLimiter(INITIAL_CONCURRENCY, 1, DEFAULT_MAX_IN_FLIGHT);
+
+    /** 조회 1건당 시작해 둘 수 있는 페이지 수 상한 (fetchRange 순서 맞춤 대기 포함, 실제 동시 요청은 concurrency가 제한) */
+    private volatile int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+
+    /*
+    동시 진행 요청 수 최대값 변경 (적응형 상한의 최대값도 함께 변경).
+    호출 속도는 여전히 rateLimiter가 제한하므로 한도 여유가 있을 때만 올릴 것.
+     */
+    public void setMaxInFlight(int maxInFlight) {
+        if (maxInFlight < 1) throw new IllegalArgumentException("maxInFlight는 1 이상이어야 합니다.");
+        concurrency.setMaxLimit(maxInFlight);
+        this.maxInFlight = maxInFlight;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /*
+    현재 적응형 동시 요청 상한 (모니터링용, NaraMetrics 게이지 concurrencyLimit과 같음)
+     */
+    public int getConcurrencyLimit() {
+        return concurrency.getLimit();
+    }
+
+    /** API 1회 호출당 최대 건수 */
+    private static final int ROWS_PER_API_CALL = 999;
 
     /*
     최소 배정예산금액·공고명 검색·업무구분 조건이 있을 때, API를 여러 페이지 호출해
     조건을 만족하는 공고만 모두 모아 반환 (한 페이지당 50건씩 표시하기 위함).
-    2페이지부터는 병렬 요청(동시성 5, 배치 간 200ms).
+    2페이지부터는 파이프라인 방식 병렬 요청: 진행 중 요청이 maxInFlight 미만이 되는 즉시 다음 페이지를 시작하고,
+    호출 간격은 토큰 버킷(RATE_LIMIT_TPS)으로 제한. 결과는 페이지 순서대로 합침.
+    페이지 작업은 FetchScope(가상 스레드)에서 실행되며, 한 페이지라도 최종 실패하면 나머지를 모두 취소하고 예외 전달.
+    기간은 API 제한(1개월) 이내여야 하고, maxApiPages를 넘는 페이지는 수집하지 않음 (긴 기간은 fetchRange 사용).
      */
-    public List<LinkedHashMap<String, String>> fetchAllFilteredRows(
+    public List<BidNotice> fetchAllFilteredRows(
             String baseUrl,
             String serviceKey,
             String bidNtceBgnDt,
@@ -139,158 +538,760 @@ public final class NaraApiService {
             int connTimeoutMs,
             int requestTimeoutMs
     ) throws Exception {
-        long fetchAllStartMs = System.currentTimeMillis();
-        List<LinkedHashMap<String, String>> allFiltered = new ArrayList<>();
-        final int rowsPerApiCall = 999;
+        return fetchAllFilteredRows(baseUrl, serviceKey, bidNtceBgnDt, bidNtceEndDt,
+                minAsignBdgtAmt, searchKeywords, bsnsDivNmFilter,
+                maxApiPages, connTimeoutMs, requestTimeoutMs, CancellationToken.NONE);
+    }
 
-        // 1페이지 호출: totalCount 확보 및 첫 페이지 데이터 수집
-        long page1StartMs = System.currentTimeMillis();
-        String json1 = callApiWithRetry(baseUrl, serviceKey, String.valueOf(rowsPerApiCall), "1",
-                bidNtceBgnDt, bidNtceEndDt, connTimeoutMs, requestTimeoutMs);
-        GridResult gr1 = toGridRows(json1);
-        int rawCount1 = gr1.rows.size(); // API 원본 건수 (필터 전)
-        applyFiltersAndRenumber(gr1.rows, minAsignBdgtAmt, searchKeywords, bsnsDivNmFilter);
-        allFiltered.addAll(gr1.rows);
-        log.info(String.format("[시간측정] fetchAllFilteredRows 1페이지 | %d ms", System.currentTimeMillis() - page1StartMs));
-
-        if (rawCount1 < rowsPerApiCall) {
-            renumberAll(allFiltered);
-            log.info(String.format("[시간측정] fetchAllFilteredRows 전체 | 총 %d 건 | %d ms", allFiltered.size(), System.currentTimeMillis() - fetchAllStartMs));
-            return allFiltered;
-        }
-
-        long totalCount = gr1.totalCount;
-        int totalPagesNeeded = (int) Math.ceil((double) totalCount / rowsPerApiCall);
-        totalPagesNeeded = Math.min(totalPagesNeeded, maxApiPages);
-        if (totalPagesNeeded <= 1) {
-            renumberAll(allFiltered);
-            log.info(String.format("[시간측정] fetchAllFilteredRows 전체 | 총 %d 건 | %d ms", allFiltered.size(), System.currentTimeMillis() - fetchAllStartMs));
-            return allFiltered;
+    /*
+    fetchAllFilteredRows()의 취소 가능 버전. 취소되면 CancellationException.
+     */
+    public List<BidNotice> fetchAllFilteredRows(
+            String baseUrl,
+            String serviceKey,
+            String bidNtceBgnDt,
+            String bidNtceEndDt,
+            String minAsignBdgtAmt,
+            String searchKeywords,
+            String bsnsDivNmFilter,
+            int maxApiPages,
+            int connTimeoutMs,
+            int requestTimeoutMs,
+            CancellationToken cancel
+    ) throws Exception {
+        long startNanos = System.nanoTime();
+        // 조회 조건은 한 번만 해석해서 모든 페이지 파싱에 공유
+        FetchContext ctx = new FetchContext(baseUrl, serviceKey,
+                BidFilter.compile(minAsignBdgtAmt, searchKeywords, bsnsDivNmFilter),
+                connTimeoutMs, requestTimeoutMs, maxInFlight, cancel);
+        List<BidNotice> allFiltered;
+        RecentResultCache<String, NoticeTable> raw = retainedWindows();
+        String rawKey = windowKey(baseUrl, bidNtceBgnDt, bidNtceEndDt);
+        try {
+            NoticeTable retained = raw != null ? raw.get(rawKey) : null;
+            if (retained != null) {
+                // 보관 중인 기간: 조건만 다시 적용
+                metrics.recordMemoryHit();
+                allFiltered = filterRows(ctx.filter, retained, 0, retained.size());
+            } else {
+                // 새로 수집하는 기간은 보관하지 않고 조건을 페이지 파싱 단계에서 적용
+                allFiltered = fetchWindow(ctx, ctx.filter, bidNtceBgnDt, bidNtceEndDt, maxApiPages).rows;
+            }
+        } catch (Exception e) {
+            throw asCancellationIfCancelled(e, cancel);
         }
+        metrics.fetchTotal().recordNanos(System.nanoTime() - startNanos);
+        return allFiltered;
+    }
+
+    /**
+     * 페이지 단위 결과 수신. 수집 순서(기간 → 페이지)대로 한 번에 하나씩 호출되며,
+     * 호출 스레드는 수집 작업 스레드(EDT 아님). 예외를 던지면 수집 전체가 취소됨.
+     */
+    public interface PageSink {
+        /*
+        @param rows      해당 페이지의 조건 통과 행 (이전 페이지와 중복된 공고는 제외)
+        @param pageIndex 전체 수집 페이지 중 순번 (0부터)
+        @param pageCount 전체 수집 페이지 수
+         */
+        void onPage(List<BidNotice> rows, int pageIndex, int pageCount) throws Exception;
+    }
+
+    /*
+    임의 기간(1개월 초과 가능)의 조건 만족 공고를 모두 수집해 반환.
+    결과는 fetchRange(..., PageSink)로 받은 페이지를 순서대로 이어 붙인 것과 같음.
+     */
+    public List<BidNotice> fetchRange(
+            String baseUrl,
+            String serviceKey,
+            String bidNtceBgnDt,
+            String bidNtceEndDt,
+            String minAsignBdgtAmt,
+            String searchKeywords,
+            String bsnsDivNmFilter,
+            int maxPagesPerShard,
+            int connTimeoutMs,
+            int requestTimeoutMs
+    ) throws Exception {
+        List<BidNotice> merged = new ArrayList<>();
+        fetchRange(baseUrl, serviceKey, bidNtceBgnDt, bidNtceEndDt,
+                minAsignBdgtAmt, searchKeywords, bsnsDivNmFilter,
+                maxPagesPerShard, connTimeoutMs, requestTimeoutMs,
+                (rows, pageIndex, pageCount) -> merged.addAll(rows));
+        return merged;
+    }
+
+    /*
+    임의 기간(1개월 초과 가능)의 조건 만족 공고를 페이지 단위로 sink에 전달 (전체 목록을 만들지 않음).
+    QueryPlanner로 기간을 1개월 이내 구간으로 나누고, totalCount가 샤드당 페이지 상한(maxPagesPerShard × 999건)을
+    넘는 구간은 반씩 다시 나눠 잘림 없이 수집. 샤드 구간의 페이지 수는 분할 시 조회한 totalCount로 정함.
+    모든 샤드의 페이지를 (기간 → 페이지) 순서로 시작하고, 완료된 페이지는 앞 페이지가 모두 전달된 뒤에 sink로 전달.
+    동시 진행 요청 슬롯은 페이지가 sink로 전달될 때 반납하므로, 대기 중인 페이지는 최대 maxInFlight개로 제한됨.
+    구간 경계에서 중복된 공고(bidNtceNo + bidNtceOrd)는 처음 것만 전달.
+    @return sink로 전달한 행 수
+     */
+    public long fetchRange(
+            String baseUrl,
+            String serviceKey,
+            String bidNtceBgnDt,
+            String bidNtceEndDt,
+            String minAsignBdgtAmt,
+            String searchKeywords,
+            String bsnsDivNmFilter,
+            int maxPagesPerShard,
+            int connTimeoutMs,
+            int requestTimeoutMs,
+            PageSink sink
+    ) throws Exception {
+        return fetchRange(baseUrl, serviceKey, bidNtceBgnDt, bidNtceEndDt,
+                minAsignBdgtAmt, searchKeywords, bsnsDivNmFilter,
+                maxPagesPerShard, connTimeoutMs, requestTimeoutMs, CancellationToken.NONE, sink);
+    }
 
-        // 2페이지부터 병렬 호출 (동시성 PARALLEL_CONCURRENCY, 배치 간 BATCH_DELAY_MS)
-        log.info(String.format("[시간측정] fetchAllFilteredRows 병렬 시작 | 2~%d페이지 (%d페이지)", totalPagesNeeded, totalPagesNeeded - 1));
-        List<PageTaskResult> results = Collections.synchronizedList(new ArrayList<>());
-        ExecutorService executor = Executors.newFixedThreadPool(PARALLEL_CONCURRENCY);
+    /*
+    fetchRange(..., PageSink)의 취소 가능 버전.
+    취소되면 진행 중 요청을 중단하고 남은 페이지는 호출하지 않으며, 이미 sink로 전달한 페이지는 그대로 둔 채 CancellationException.
+     */
+    public long fetchRange(
+            String baseUrl,
+            String serviceKey,
+            String bidNtceBgnDt,
+            String bidNtceEndDt,
+            String minAsignBdgtAmt,
+            String searchKeywords,
+            String bsnsDivNmFilter,
+            int maxPagesPerShard,
+            int connTimeoutMs,
+            int requestTimeoutMs,
+            CancellationToken cancel,
+            PageSink sink
+    ) throws Exception {
+        return fetchRange(baseUrl, serviceKey, bidNtceBgnDt, bidNtceEndDt,
+                minAsignBdgtAmt, searchKeywords, bsnsDivNmFilter,
+                maxPagesPerShard, connTimeoutMs, requestTimeoutMs, false, cancel, sink);
+    }
 
+    /*
+    fetchRange(..., CancellationToken, PageSink)에 원본 보관 여부 지정.
+    retainWindow가 true면 조건을 다시 바꿔 조회할 화면 조회용으로, 필터 없이 수집해 기간 원본을 보관하면서 조건 통과 행만 sink로 전달.
+    false면 조건을 페이지 파싱 단계에서 적용하고 원본을 모으지 않음 (이미 보관 중인 기간은 어느 쪽이든 메모리에서 처리).
+     */
+    public long fetchRange(
+            String baseUrl,
+            String serviceKey,
+            String bidNtceBgnDt,
+            String bidNtceEndDt,
+            String minAsignBdgtAmt,
+            String searchKeywords,
+            String bsnsDivNmFilter,
+            int maxPagesPerShard,
+            int connTimeoutMs,
+            int requestTimeoutMs,
+            boolean retainWindow,
+            CancellationToken cancel,
+            PageSink sink
+    ) throws Exception {
+        if (maxPagesPerShard < 1) throw new IllegalArgumentException("maxPagesPerShard는 1 이상이어야 합니다.");
+        FetchContext ctx = new FetchContext(baseUrl, serviceKey,
+                BidFilter.compile(minAsignBdgtAmt, searchKeywords, bsnsDivNmFilter),
+                connTimeoutMs, requestTimeoutMs, maxInFlight, cancel);
         try {
-            for (int batchStart = 2; batchStart <= totalPagesNeeded; batchStart += PARALLEL_CONCURRENCY) {
-                int batchEnd = Math.min(batchStart + PARALLEL_CONCURRENCY - 1, totalPagesNeeded);
-                long batchStartMs = System.currentTimeMillis();
-                List<Callable<PageTaskResult>> tasks = new ArrayList<>();
-                for (int pageNo = batchStart; pageNo <= batchEnd; pageNo++) {
-                    final int p = pageNo;
-                    tasks.add(() -> fetchOnePage(baseUrl, serviceKey, rowsPerApiCall, p,
-                            bidNtceBgnDt, bidNtceEndDt, minAsignBdgtAmt, searchKeywords, bsnsDivNmFilter,
-                            connTimeoutMs, requestTimeoutMs));
+            return fetchRange(ctx, bidNtceBgnDt, bidNtceEndDt, maxPagesPerShard, retainWindow, sink);
+        } catch (Exception e) {
+            throw asCancellationIfCancelled(e, cancel);
+        }
+    }
+
+    private long fetchRange(FetchContext ctx, String bidNtceBgnDt, String bidNtceEndDt,
+                            int maxPagesPerShard, boolean retainWindow, PageSink sink) throws Exception {
+        long startNanos = System.nanoTime();
+
+        // 보관 중인 기간이면 API 호출 없이 원본에 조건만 다시 적용
+        RecentResultCache<String, NoticeTable> raw = retainedWindows();
+        String rawKey = windowKey(ctx.baseUrl, bidNtceBgnDt, bidNtceEndDt);
+        NoticeTable retained = raw != null ? raw.get(rawKey) : null;
+        if (retained != null) {
+            metrics.recordMemoryHit();
+            long emitted = emitRetained(ctx, retained, sink);
+            metrics.fetchTotal().recordNanos(System.nanoTime() - startNanos);
+            return emitted;
+        }
+
+        // 원본 보관 요청 시: 필터 없이 수집하고, 순서대로 전달되는 페이지를 보관하면서 조건을 적용해 sink로 전달
+        RawCollector collector = retainWindow && raw != null ? new RawCollector(ctx.filter, sink) : null;
+        BidFilter pageFilter = collector != null ? BidFilter.NONE : ctx.filter;
+
+        LocalDateTime bgn = QueryPlanner.parse(bidNtceBgnDt);
+        LocalDateTime end = QueryPlanner.parse(bidNtceEndDt);
+        long maxRowsPerShard = (long) maxPagesPerShard * ROWS_PER_API_CALL;
+        List<QueryPlanner.Window> legal = QueryPlanner.splitLegal(bgn, end);
+        List<QueryPlanner.Window> shards = null;
+        // 1개월 이내 기간은 totalCount 조회 없이 1페이지를 바로 받아 totalCount를 얻음 (첫 행 전달까지 호출 1번).
+        // 받은 1페이지는 슬롯을 쥔 채 첫 순번으로 전달 (슬롯은 전달 시 반납)
+        PageTaskResult firstPage = null;
+        if (legal.size() == 1) {
+            QueryPlanner.Window w = legal.get(0);
+            ctx.acquireSlot();
+            try {
+                firstPage = fetchOnePage(ctx, pageFilter, 1, w.bgnDt(), w.endDt());
+            } catch (Exception e) {
+                ctx.slots.release();
+                throw e;
+            }
+            long knownTotal = firstPage.totalCount;
+            if (knownTotal <= maxRowsPerShard) {
+                shards = List.of(w.withTotalCount(knownTotal));
+            }
+            if (shards == null || knownTotal == 0) {
+                // 공고 없음(전달할 페이지 없음), 또는 상한을 넘어 나눠야 하는 기간
+                ctx.slots.release();
+                firstPage = null;
+            }
+            if (shards == null) {
+                // 전체 기간의 totalCount는 1페이지에서 얻은 값을 그대로 사용
+                shards = QueryPlanner.plan(bgn, end, maxRowsPerShard,
+                        p -> p.bgn().equals(w.bgn()) && p.end().equals(w.end()) ? knownTotal : probeTotalCount(ctx, p));
+            }
+        } else {
+            shards = QueryPlanner.plan(bgn, end, maxRowsPerShard, w -> probeTotalCount(ctx, w));
+        }
+
+        // 수집할 페이지 목록 (기간 → 페이지 순서). 공고 없는 구간은 호출 생략
+        List<QueryPlanner.Window> pageWindows = new ArrayList<>();
+        List<Integer> pageNos = new ArrayList<>();
+        boolean complete = true;
+        for (QueryPlanner.Window w : shards) {
+            int pages = (int) Math.ceil((double) w.totalCount() / ROWS_PER_API_CALL);
+            if (pages > maxPagesPerShard) {
+                complete = false;
+                // 1분 구간도 상한을 넘는 경우에만 발생
+                log.warning(String.format("페이지 상한 초과로 일부만 수집 | %s~%s | %d/%d페이지",
+                        w.bgnDt(), w.endDt(), maxPagesPerShard, pages));
+                pages = maxPagesPerShard;
+            }
+            for (int p = 1; p <= pages; p++) {
+                pageWindows.add(w);
+                pageNos.add(p);
+            }
+        }
+        log.fine(String.format("fetchRange 분할 | %s~%s | 샤드 %d개 | %d페이지",
+                bidNtceBgnDt, bidNtceEndDt, shards.size(), pageNos.size()));
+
+        OrderedPageEmitter emitter = new OrderedPageEmitter(collector != null ? collector : sink, pageNos.size(), ctx.slots);
+        try (FetchScope<Void> scope = new FetchScope<>();
+             CancellationToken.Registration onCancel = ctx.cancel.onCancel(scope::cancel)) {
+            int startSeq = 0;
+            if (firstPage != null) {
+                emitter.complete(0, firstPage.rows);
+                startSeq = 1;
+            }
+            for (int i = startSeq; i < pageNos.size(); i++) {
+                final int seq = i;
+                final QueryPlanner.Window w = pageWindows.get(i);
+                final int p = pageNos.get(i);
+                // 슬롯 반납은 이 페이지가 sink로 전달될 때(또는 실패 시) 이뤄짐
+                ctx.acquireSlot();
+                try {
+                    scope.throwIfFailed();
+                    scope.fork(() -> {
+                        List<BidNotice> rows;
+                        try {
+                            rows = fetchOnePage(ctx, pageFilter, p, w.bgnDt(), w.endDt()).rows;
+                        } catch (Exception e) {
+                            emitter.abort();
+                            throw e;
+                        }
+                        emitter.complete(seq, rows);
+                        return null;
+                    });
+                } catch (Exception e) {
+                    ctx.slots.release();
+                    throw e;
+                }
+            }
+            scope.join();
+        }
+        metrics.fetchTotal().recordNanos(System.nanoTime() - startNanos);
+        if (collector == null) return emitter.emittedRows();
+        if (complete && collector.table != null) raw.put(rawKey, collector.table.build());
+        return collector.emittedRows;
+    }
+
+    /*
+    보관 중인 원본을 API 페이지 크기 단위로 나눠 조건 적용 후 sink로 전달 (수집 때와 같은 순서·진행 표시)
+     */
+    private long emitRetained(FetchContext ctx, NoticeTable retained, PageSink sink) throws Exception {
+        int pageCount = (retained.size() + ROWS_PER_API_CALL - 1) / ROWS_PER_API_CALL;
+        long emitted = 0;
+        for (int i = 0; i < pageCount; i++) {
+            ctx.cancel.throwIfCancelled();
+            List<BidNotice> kept = filterRows(ctx.filter, retained, i * ROWS_PER_API_CALL,
+                    Math.min(retained.size(), (i + 1) * ROWS_PER_API_CALL));
+            sink.onPage(kept, i, pageCount);
+            emitted += kept.size();
+        }
+        return emitted;
+    }
+
+    /*
+    원본 행 목록에 조건 적용 (항상 새 목록 반환, 매칭키워드는 이 조건 기준으로 다시 기록)
+     */
+    private List<BidNotice> filterRows(BidFilter filter, List<BidNotice> rows) {
+        if (filter.isEmpty()) return new ArrayList<>(rows);
+        long startNanos = System.nanoTime();
+        List<BidNotice> kept = new ArrayList<>();
+        for (BidNotice row : rows) {
+            BidNotice r = filter.toRow(row);
+            if (r != null) kept.add(r);
+        }
+        metrics.filterTime().recordNanos(System.nanoTime() - startNanos);
+        return kept;
+    }
+
+    /*
+    보관 원본의 [from, to) 행에 조건 적용 (열 값을 직접 비교하고 통과한 행만 BidNotice로 만듦)
+     */
+    private List<BidNotice> filterRows(BidFilter filter, NoticeTable table, int from, int to) {
+        long startNanos = System.nanoTime();
+        List<BidNotice> kept = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            BidNotice r = filter.toRow(table, i);
+            if (r != null) kept.add(r);
+        }
+        if (!filter.isEmpty()) metrics.filterTime().recordNanos(System.nanoTime() - startNanos);
+        return kept;
+    }
+
+    /**
+     * 필터 없이 수집한 페이지(중복 제거 후, 순서대로)를 원본 열 형식으로 바로 기록하면서 조건을 적용해 sink로 전달.
+     * 페이지 행은 기록 후 버리므로 BidNotice 목록을 모아 두지 않음.
+     * OrderedPageEmitter가 한 번에 하나씩 호출하므로 동기화 불필요. 원본이 보관 상한을 넘으면 기록을 멈춤.
+     */
+    private final class RawCollector implements PageSink {
+        private final BidFilter filter;
+        private final PageSink sink;
+        /** 원본 기록 (상한 초과 시 null) */
+        NoticeTable.Builder table = new NoticeTable.Builder();
+        long emittedRows;
+
+        RawCollector(BidFilter filter, PageSink sink) {
+            this.filter = filter;
+            this.sink = sink;
+        }
+
+        @Override
+        public void onPage(List<BidNotice> page, int pageIndex, int pageCount) throws Exception {
+            if (table != null) {
+                if (table.size() + page.size() > RAW_WINDOW_MAX_ROWS) {
+                    table = null;
+                } else {
+                    table.addAll(page);
                 }
-                List<Future<PageTaskResult>> futures = executor.invokeAll(tasks);
-                for (Future<PageTaskResult> f : futures) {
-                    PageTaskResult r = f.get();
-                    if (r != null) results.add(r);
+            }
+            List<BidNotice> kept = filterRows(filter, page);
+            sink.onPage(kept, pageIndex, pageCount);
+            emittedRows += kept.size();
+        }
+    }
+
+    /**
+     * 순서 없이 완료되는 페이지를 순번대로 sink에 전달하는 버퍼.
+     * 다음 순번 페이지가 도착하면 이어서 도착해 있던 페이지까지 연달아 전달하고, 전달한 페이지마다 슬롯 1개 반납.
+     * 한 페이지라도 실패하면 이후 페이지는 전달하지 않고 슬롯만 반납 (페이지 시작 루프가 슬롯 대기로 멈추지 않도록).
+     */
+    private static final class OrderedPageEmitter {
+        private final PageSink sink;
+        private final int pageCount;
+        private final Semaphore slots;
+        /** 도착했지만 아직 전달 못한 페이지 (순번 → 행) */
+        private final Map<Integer, List<BidNotice>> pending = new HashMap<>();
+        /** 중복 제거용 공고 키 (bidNtceNo + bidNtceOrd) */
+        private final Set<String> seen = new HashSet<>();
+        private int next;
+        private long emittedRows;
+        private boolean failed;
+
+        OrderedPageEmitter(PageSink sink, int pageCount, Semaphore slots) {
+            this.sink = sink;
+            this.pageCount = pageCount;
+            this.slots = slots;
+        }
+
+        synchronized void complete(int seq, List<BidNotice> rows) throws Exception {
+            if (failed) {
+                slots.release();
+                return;
+            }
+            pending.put(seq, rows);
+            List<BidNotice> ready;
+            while ((ready = pending.remove(next)) != null) {
+                List<BidNotice> unique = new ArrayList<>(ready.size());
+                for (BidNotice row : ready) {
+                    if (seen.add(row.bidNtceNo() + '\u0000' + row.bidNtceOrd())) unique.add(row);
                 }
-                log.info(String.format("[시간측정] fetchAllFilteredRows 병렬 배치 | %d~%d페이지 | %d ms", batchStart, batchEnd, System.currentTimeMillis() - batchStartMs));
-                if (batchEnd < totalPagesNeeded && BATCH_DELAY_MS > 0) {
-                    Thread.sleep(BATCH_DELAY_MS);
+                try {
+                    sink.onPage(unique, next, pageCount);
+                } catch (Exception e) {
+                    abort();
+                    throw e;
                 }
+                slots.release();
+                emittedRows += unique.size();
+                next++;
+            }
+        }
+
+        /*
+        페이지 실패 처리: 실패한 페이지와 대기 중인 페이지의 슬롯을 모두 반납.
+         */
+        synchronized void abort() {
+            if (!failed) {
+                failed = true;
+                slots.release(pending.size());
+                pending.clear();
+            }
+            slots.release();
+        }
+
+        synchronized long emittedRows() {
+            return emittedRows;
+        }
+    }
+
+    /**
+     * 조회 1건 동안 모든 페이지·샤드 작업이 공유하는 값.
+     * slots는 조회 전체의 동시 진행 요청 수 상한으로, HTTP 호출 1회 동안만 점유.
+     */
+    private static final class FetchContext {
+        final String baseUrl;
+        final String serviceKey;
+        final BidFilter filter;
+        final int connTimeoutMs;
+        final int requestTimeoutMs;
+        final Semaphore slots;
+        final CancellationToken cancel;
+
+        FetchContext(String baseUrl, String serviceKey, BidFilter filter,
+                     int connTimeoutMs, int requestTimeoutMs, int maxInFlight, CancellationToken cancel) {
+            this.baseUrl = baseUrl;
+            this.serviceKey = serviceKey;
+            this.filter = filter;
+            this.connTimeoutMs = connTimeoutMs;
+            this.requestTimeoutMs = requestTimeoutMs;
+            this.slots = new Semaphore(maxInFlight);
+            this.cancel = cancel;
+        }
+
+        /*
+        슬롯 1개 획득. 대기 중 취소되면 대기 스레드를 깨워 CancellationException (슬롯은 점유하지 않음).
+         */
+        void acquireSlot() throws InterruptedException {
+            Thread waiter = Thread.currentThread();
+            try (CancellationToken.Registration r = cancel.onCancel(waiter::interrupt)) {
+                slots.acquire();
+            } catch (InterruptedException e) {
+                cancel.throwIfCancelled();
+                throw e;
+            }
+            if (cancel.isCancelled()) {
+                // 획득 직후 취소된 경우: 취소 동작이 남긴 인터럽트 표시를 지우고 슬롯 반납
+                Thread.interrupted();
+                slots.release();
+                cancel.throwIfCancelled();
             }
+        }
+    }
+
+    /*
+    구간 totalCount 조회 (numOfRows=1 호출, 필터 없음).
+    최근 같은 구간을 조회한 적이 있으면(화면 조회 후 CSV 저장 등) 그때 받은 totalCount를 재사용하고 호출하지 않음.
+     */
+    private long probeTotalCount(FetchContext ctx, QueryPlanner.Window w) throws Exception {
+        if (resultReuse) {
+            Long known = recentTotalCounts.get(windowKey(ctx.baseUrl, w.bgnDt(), w.endDt()));
+            if (known != null) {
+                metrics.recordMemoryHit();
+                return known;
+            }
+        }
+        ctx.acquireSlot();
+        try {
+            GridResult gr = fetchGrid(ctx, "1", "1", w.bgnDt(), w.endDt(), BidFilter.NONE);
+            return gr.totalCount;
         } finally {
-            executor.shutdown();
-            executor.awaitTermination(60, TimeUnit.SECONDS);
+            ctx.slots.release();
         }
+    }
+
+    /** fetchWindow() 결과: 행 목록 + 페이지 상한으로 잘리지 않았는지 여부 */
+    private static final class WindowRows {
+        final List<BidNotice> rows;
+        final boolean complete;
 
-        results.sort((a, b) -> Integer.compare(a.pageNo, b.pageNo));
-        for (PageTaskResult r : results) {
-            allFiltered.addAll(r.rows);
+        WindowRows(List<BidNotice> rows, boolean complete) {
+            this.rows = rows;
+            this.complete = complete;
         }
-        renumberAll(allFiltered);
-        log.info(String.format("[시간측정] fetchAllFilteredRows 전체 | 총 %d 건 | %d ms", allFiltered.size(), System.currentTimeMillis() - fetchAllStartMs));
-        return allFiltered;
+    }
+
+    /*
+    API 제한 이내 기간 1개를 페이지 단위로 수집 (1페이지로 totalCount 확인 후 2페이지부터 병렬).
+     */
+    private WindowRows fetchWindow(FetchContext ctx, BidFilter filter, String bidNtceBgnDt, String bidNtceEndDt,
+                                   int maxApiPages) throws Exception {
+        List<BidNotice> allFiltered = new ArrayList<>();
+
+        // 1페이지 호출: totalCount 확보 및 첫 페이지 데이터 수집
+        PageTaskResult page1;
+        ctx.acquireSlot();
+        try {
+            page1 = fetchOnePage(ctx, filter, 1, bidNtceBgnDt, bidNtceEndDt);
+        } finally {
+            ctx.slots.release();
+        }
+        allFiltered.addAll(page1.rows);
+
+        if (page1.rawCount < ROWS_PER_API_CALL) {
+            return new WindowRows(allFiltered, true);
+        }
+
+        int totalPagesNeeded = (int) Math.ceil((double) page1.totalCount / ROWS_PER_API_CALL);
+        boolean complete = totalPagesNeeded <= maxApiPages;
+        if (!complete) {
+            log.warning(String.format("페이지 상한 초과로 일부만 수집 | %s~%s | %d/%d페이지",
+                    bidNtceBgnDt, bidNtceEndDt, maxApiPages, totalPagesNeeded));
+            totalPagesNeeded = maxApiPages;
+        }
+        if (totalPagesNeeded <= 1) {
+            return new WindowRows(allFiltered, complete);
+        }
+
+        // 2페이지부터 파이프라인 병렬 호출 (슬롯이 비는 즉시 다음 페이지 시작, 속도는 rateLimiter가 제한)
+        log.fine(String.format("fetchWindow 병렬 시작 | %s~%s | 2~%d페이지",
+                bidNtceBgnDt, bidNtceEndDt, totalPagesNeeded));
+        try (FetchScope<PageTaskResult> scope = new FetchScope<>();
+             CancellationToken.Registration onCancel = ctx.cancel.onCancel(scope::cancel)) {
+            for (int pageNo = 2; pageNo <= totalPagesNeeded; pageNo++) {
+                final int p = pageNo;
+                ctx.acquireSlot();
+                try {
+                    scope.throwIfFailed();
+                    scope.fork(() -> {
+                        try {
+                            return fetchOnePage(ctx, filter, p, bidNtceBgnDt, bidNtceEndDt);
+                        } finally {
+                            ctx.slots.release();
+                        }
+                    });
+                } catch (Exception e) {
+                    ctx.slots.release();
+                    throw e;
+                }
+            }
+            // join() 결과는 fork(페이지) 순서이므로 정렬 불필요
+            for (PageTaskResult r : scope.join()) {
+                allFiltered.addAll(r.rows);
+            }
+        }
+        return new WindowRows(allFiltered, complete);
     }
 
     private static final class PageTaskResult {
         final int pageNo;
-        final List<LinkedHashMap<String, String>> rows;
+        final List<BidNotice> rows;
+        final int rawCount;
+        final long totalCount;
 
-        PageTaskResult(int pageNo, List<LinkedHashMap<String, String>> rows) {
+        PageTaskResult(int pageNo, List<BidNotice> rows, int rawCount, long totalCount) {
             this.pageNo = pageNo;
             this.rows = rows;
+            this.rawCount = rawCount;
+            this.totalCount = totalCount;
         }
     }
 
-    /** 1페이지 처리 (API 호출 + 파싱 + 필터). 병렬 태스크용. */
-    private PageTaskResult fetchOnePage(String baseUrl, String serviceKey, int rowsPerApiCall, int pageNo,
-                                       String bidNtceBgnDt, String bidNtceEndDt,
-                                       String minAsignBdgtAmt, String searchKeywords, String bsnsDivNmFilter,
-                                       int connTimeoutMs, int requestTimeoutMs) throws Exception {
-        long pageStartMs = System.currentTimeMillis();
-        String json = callApiWithRetry(baseUrl, serviceKey, String.valueOf(rowsPerApiCall), String.valueOf(pageNo),
-                bidNtceBgnDt, bidNtceEndDt, connTimeoutMs, requestTimeoutMs);
-        GridResult gr = toGridRows(json);
-        applyFiltersAndRenumber(gr.rows, minAsignBdgtAmt, searchKeywords, bsnsDivNmFilter);
-        log.info(String.format("[시간측정] fetchAllFilteredRows %d페이지 | %d ms", pageNo, System.currentTimeMillis() - pageStartMs));
-        return new PageTaskResult(pageNo, gr.rows);
+    /** 1페이지 처리 (API 호출 + 파싱 중 필터). 병렬 태스크용. */
+    private PageTaskResult fetchOnePage(FetchContext ctx, BidFilter filter, int pageNo,
+                                       String bidNtceBgnDt, String bidNtceEndDt) throws Exception {
+        long startNanos = System.nanoTime();
+        GridResult gr = fetchGrid(ctx, String.valueOf(ROWS_PER_API_CALL), String.valueOf(pageNo),
+                bidNtceBgnDt, bidNtceEndDt, filter);
+        metrics.pageFetch().recordNanos(System.nanoTime() - startNanos);
+        return new PageTaskResult(pageNo, gr.rows, gr.rawCount, gr.totalCount);
     }
 
-    private void applyFiltersAndRenumber(List<LinkedHashMap<String, String>> rows,
-                                        String minAsignBdgtAmt, String searchKeywords, String bsnsDivNmFilter) {
-        if (minAsignBdgtAmt != null && !minAsignBdgtAmt.trim().isEmpty()) {
-            rows.removeIf(row -> !isMinAsignBdgtAmt(row.get("asignBdgtAmt"), minAsignBdgtAmt));
-        }
-        if (searchKeywords != null && !searchKeywords.trim().isEmpty()) {
-            rows.removeIf(row -> !matchesSearchKeywords(row.get("bidNtceNm"), searchKeywords));
-        }
-        if (bsnsDivNmFilter != null && !bsnsDivNmFilter.trim().isEmpty()) {
-            rows.removeIf(row -> !matchesBsnsDivNm(row.get("bsnsDivNm"), bsnsDivNmFilter));
+    /*
+    페이지 1개 결과 (메모리 캐시 → 진행 중인 같은 요청 합류 → API 호출 순).
+    키는 정규화한 요청 파라미터(baseUrl·건수·페이지·기간)와 필터 조건이며 인증키는 포함하지 않음.
+    정상 응답(resultCode 00)만 보관하고, 호출자에게는 항상 복사본을 반환.
+     */
+    private GridResult fetchGrid(FetchContext ctx, String numOfRows, String pageNo,
+                                 String bidNtceBgnDt, String bidNtceEndDt, BidFilter filter) throws Exception {
+        if (!resultReuse) {
+            return fetchGridWithRetry(ctx, numOfRows, pageNo, bidNtceBgnDt, bidNtceEndDt, filter);
         }
-        for (int i = 0; i < rows.size(); i++) {
-            rows.get(i).put("순번", String.valueOf(i + 1));
+        String key = pageKey(ctx.baseUrl, numOfRows, pageNo, bidNtceBgnDt, bidNtceEndDt, filter);
+        GridResult cached = recentPages.get(key);
+        if (cached != null) {
+            metrics.recordMemoryHit();
+            return cached.copy();
         }
+        GridResult shared = pageFlights.run(key, ctx.cancel, () -> {
+            // 앞선 리더가 끝나며 방금 보관했을 수 있음
+            GridResult hit = recentPages.get(key);
+            if (hit != null) {
+                metrics.recordMemoryHit();
+                return hit;
+            }
+            GridResult gr = fetchGridWithRetry(ctx, numOfRows, pageNo, bidNtceBgnDt, bidNtceEndDt, filter);
+            if ("00".equals(gr.resultCode)) {
+                recentPages.put(key, gr);
+                recentTotalCounts.put(windowKey(ctx.baseUrl, bidNtceBgnDt, bidNtceEndDt), gr.totalCount);
+            }
+            return gr;
+        }, metrics::recordCoalesced);
+        return shared.copy();
     }
 
-    private void renumberAll(List<LinkedHashMap<String, String>> allFiltered) {
-        for (int i = 0; i < allFiltered.size(); i++) {
-            allFiltered.get(i).put("순번", String.valueOf(i + 1));
-        }
+    private static String pageKey(String baseUrl, String numOfRows, String pageNo,
+                                  String bidNtceBgnDt, String bidNtceEndDt, BidFilter filter) {
+        return windowKey(baseUrl, bidNtceBgnDt, bidNtceEndDt) + '\u0000' + numOfRows.trim() + '\u0000' + pageNo.trim()
+                + '\u0000' + filter.key();
+    }
+
+    private static String windowKey(String baseUrl, String bidNtceBgnDt, String bidNtceEndDt) {
+        return baseUrl.trim() + '\u0000' + bidNtceBgnDt.trim() + '\u0000' + bidNtceEndDt.trim();
     }
 
-    /** 실패 시 지수 백오프 재시도 (429/timeout 등 대응) */
-    private String callApiWithRetry(String baseUrl, String serviceKey, String numOfRows, String pageNo,
-                                   String bidNtceBgnDt, String bidNtceEndDt,
-                                   int connTimeoutMs, int requestTimeoutMs) throws Exception {
-        int maxAttempts = 3;
-        long backoffMs = 500;
-        Exception last = null;
-        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+    /*
+    호출 + 스트리밍 파싱을 한 단위로 실행하고, 실패 종류에 따라 재시도.
+    - 429/503/timeout: 과부하로 보고 동시 요청 상한을 줄인 뒤 재시도 (Retry-After가 있으면 그만큼 전체 요청 중지)
+    - 그 외 5xx·연결 오류: 지수 백오프(지터 포함) 후 재시도
+    - 408/429 외 4xx: 다시 보내도 같으므로 바로 실패
+    - 결과코드 오류(NaraApiException): 서버 일시 오류 코드만 재시도, JSON이 아닌 본문은 1회만 재시도
+    - 파싱 오류 등 그 밖의 예외: 1회만 재시도
+    취소·인터럽트는 재시도하지 않고 바로 전달하며, 속도 제한·동시성·백오프 대기도 취소 즉시 중단.
+    디스크 캐시 적중은 API를 호출하지 않으므로 속도 제한 토큰·동시 요청 허가 없이 바로 파싱 (미스일 때만 획득).
+     */
+    private GridResult fetchGridWithRetry(FetchContext ctx, String numOfRows, String pageNo,
+                                         String bidNtceBgnDt, String bidNtceEndDt, BidFilter filter) throws Exception {
+        CancellationToken cancel = ctx.cancel;
+        PageDiskCache cache = pageCache;
+        String cacheKey = cache != null
+                ? PageDiskCache.key(ctx.baseUrl, bidNtceBgnDt, bidNtceEndDt, numOfRows, pageNo)
+                : null;
+        boolean cacheLookup = cache != null;
+        long backoffMs = INITIAL_BACKOFF_MS;
+        for (int attempt = 1; ; attempt++) {
+            if (attempt > 1) metrics.recordRetry();
+            if (cacheLookup) {
+                InputStream cached = cache.open(cacheKey);
+                if (cached != null) {
+                    metrics.recordCacheHit();
+                    try (InputStream in = cached) {
+                        return toGridRows(in, filter);
+                    } catch (InterruptedException | CancellationException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        // 읽을 수 없는 캐시 파일: 이번 조회에서는 캐시를 건너뛰고 API 응답으로 다시 기록
+                        if (cancel.isCancelled()) throw asCancellationIfCancelled(e, cancel);
+                        log.log(Level.FINE, "페이지 캐시 파싱 실패, API 호출 | pageNo=" + pageNo, e);
+                        cacheLookup = false;
+                    }
+                }
+            }
+            concurrency.acquire(cancel);
+            AdaptiveConcurrencyLimiter.Outcome outcome = AdaptiveConcurrencyLimiter.Outcome.IGNORE;
+            long rttNanos = 0;
+            long delayMs;
             try {
-                return callApi(baseUrl, serviceKey, numOfRows, pageNo,
-                        bidNtceBgnDt, bidNtceEndDt, "json", connTimeoutMs, requestTimeoutMs);
+                rateLimiter.acquire(cancel);
+                long startNanos = System.nanoTime();
+                try (InputStream in = openApiStream(ctx.baseUrl, ctx.serviceKey, numOfRows, pageNo,
+                        bidNtceBgnDt, bidNtceEndDt, "json", ctx.connTimeoutMs, ctx.requestTimeoutMs, cancel,
+                        cache, cacheKey)) {
+                    // 헤더 수신까지의 시간으로 서버 부하를 판단 (본문 크기·파싱 시간 영향 제외)
+                    rttNanos = System.nanoTime() - startNanos;
+                    // 본문이 정상 응답이 아니면 사람이 읽을 수 있도록 앞부분을 오류에 담기 위해 버퍼 앞쪽을 표시
+                    BufferedInputStream body = new BufferedInputStream(in, ERROR_PREVIEW_BYTES);
+                    body.mark(ERROR_PREVIEW_BYTES);
+                    GridResult gr;
+                    try {
+                        gr = toGridRows(body, filter);
+                    } catch (ParseException | IllegalArgumentException e) {
+                        throw new NaraApiException("API 응답을 해석할 수 없습니다 (JSON 아님): " + preview(body), e);
+                    }
+                    outcome = AdaptiveConcurrencyLimiter.Outcome.SUCCESS;
+                    if (!NaraApiException.isOk(gr.resultCode)) {
+                        throw new NaraApiException(gr.resultCode, gr.resultMsg);
+                    }
+                    // 정상 응답만 디스크 캐시에 반영
+                    if (in instanceof PageDiskCache.Recorder && "00".equals(gr.resultCode)) {
+                        ((PageDiskCache.Recorder) in).commit();
+                    }
+                    return gr;
+                }
+            } catch (InterruptedException | CancellationException e) {
+                throw e;
             } catch (Exception e) {
-                last = e;
-                if (attempt < maxAttempts) {
-                    Thread.sleep(backoffMs);
-                    backoffMs = Math.min(backoffMs * 2, 4000);
+                // 취소로 스트림 읽기가 실패한 경우 등은 재시도하지 않음
+                if (cancel.isCancelled()) throw asCancellationIfCancelled(e, cancel);
+                NaraHttpException http = e instanceof NaraHttpException ? (NaraHttpException) e : null;
+                NaraApiException api = e instanceof NaraApiException ? (NaraApiException) e : null;
+                long retryAfterMs = -1;
+                if ((http != null && http.isThrottled()) || e instanceof HttpTimeoutException) {
+                    outcome = AdaptiveConcurrencyLimiter.Outcome.OVERLOAD;
+                    if (http != null && http.retryAfterMillis() >= 0) {
+                        retryAfterMs = Math.min(http.retryAfterMillis(), MAX_RETRY_AFTER_MS);
+                        concurrency.pause(retryAfterMs);
+                    }
+                }
+                boolean retryable;
+                int maxAttempts;
+                if (api != null) {
+                    // 인증키·한도 초과 등은 다시 보내도 같음, 본문 형식 오류는 1회만 재시도
+                    retryable = api.isTransient();
+                    maxAttempts = retryable ? MAX_ATTEMPTS : (api.resultCode() != null ? 1 : MAX_ATTEMPTS_OTHER);
+                } else {
+                    retryable = http != null ? !http.isClientError() : e instanceof IOException;
+                    maxAttempts = retryable ? MAX_ATTEMPTS : (http != null ? 1 : MAX_ATTEMPTS_OTHER);
                 }
+                if (attempt >= maxAttempts) throw e;
+                log.fine(String.format("재시도 %d/%d | pageNo=%s | %s", attempt, maxAttempts - 1, pageNo, e));
+                // 백오프는 지터를 넣어 동시에 실패한 요청들이 한꺼번에 재시도하지 않도록 함
+                delayMs = Math.max(backoffMs / 2 + ThreadLocalRandom.current().nextLong(backoffMs / 2 + 1), retryAfterMs);
+                backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+            } finally {
+                concurrency.release(outcome, rttNanos);
             }
+            // 대기는 동시 요청 허가를 반납한 뒤에 (다른 페이지가 그동안 진행할 수 있도록)
+            cancel.sleep(delayMs);
         }
-        throw last != null ? last : new RuntimeException("callApi failed");
     }
 
     /*
-    최소 배정예산금액 조건 확인
-    */
-    private static boolean isMinAsignBdgtAmt(String asignBdgtAmt, String minAsignBdgtAmt) {
-        if (asignBdgtAmt == null || asignBdgtAmt.trim().isEmpty()) return false;
-        if (minAsignBdgtAmt == null || minAsignBdgtAmt.trim().isEmpty()) return true;
+    해석하지 못한 응답 본문의 앞부분 (mark 위치로 되돌릴 수 없으면 빈 문자열)
+     */
+    private static String preview(BufferedInputStream body) {
         try {
-            long a = Long.parseLong(asignBdgtAmt.replace(",", "").trim());
-            long m = Long.parseLong(minAsignBdgtAmt.replace(",", "").trim());
-            return a >= m;
-        } catch (NumberFormatException e) {
-            return false;
+            body.reset();
+            byte[] head = body.readNBytes(ERROR_PREVIEW_LENGTH);
+            return new String(head, StandardCharsets.UTF_8).replaceAll("\\s+", " ").trim();
+        } catch (IOException e) {
+            return "";
         }
     }
 
+    /*
+    취소된 조회에서 발생한 예외는 CancellationException으로 바꿔서 반환 (원래 예외는 cause로 보존)
+     */
+    private static Exception asCancellationIfCancelled(Exception e, CancellationToken cancel) {
+        if (!cancel.isCancelled() || e instanceof CancellationException) return e;
+        CancellationException ce = new CancellationException("작업이 취소되었습니다.");
+        ce.initCause(e);
+        return ce;
+    }
+
     /*
     객체를 long 타입으로 변환
     */
@@ -303,49 +1304,17 @@ public final class NaraApiService {
         }
     }
 
-    /*
-    금액 형식 변환
-    */
-    private static String formatAmount(String value) {
-        if (value == null || value.trim().isEmpty()) return value;
-        try {
-            String num = value.replace(",", "").trim();
-            long n = Long.parseLong(num);
-            return String.format("%,d", n);
-        } catch (NumberFormatException e) {
-            return value;
-        }
-    }
-
-    /*
-    공고명(bidNtceNm)이 검색 키워드 중 하나라도 포함하는지 확인.
-    searchKeywords는 쉼표 구분. null/빈 문자열이면 true(필터 없음).
-     */
-    private static boolean matchesSearchKeywords(String bidNtceNm, String searchKeywords) {
-        if (searchKeywords == null || searchKeywords.trim().isEmpty()) return true;
-        if (bidNtceNm == null) return false;
-        String name = bidNtceNm.trim();
-        String[] keywords = searchKeywords.split(",");
-        for (String kw : keywords) {
-            if (kw != null && !kw.trim().isEmpty() && name.contains(kw.trim())) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    /*
-    업무구분명(bsnsDivNm)이 선택한 업무구분("물품"/"용역")과 일치하는지 확인.
-    API는 "용역", "물품"을 그대로 반환함. bsnsDivNmFilter가 null/빈 문자열이면 true(필터 없음).
-     */
-    private static boolean matchesBsnsDivNm(String rowBsnsDivNm, String bsnsDivNmFilter) {
-        if (bsnsDivNmFilter == null || bsnsDivNmFilter.trim().isEmpty()) return true;
-        if (rowBsnsDivNm == null) return false;
-        return rowBsnsDivNm.trim().equals(bsnsDivNmFilter.trim());
+    private NaraApiService() {
+        metrics.registerGauge("concurrencyLimit", concurrency::getLimit);
+        metrics.registerGauge("inFlight", concurrency::getInFlight);
+        metrics.registerGauge("recentPageRows", recentPages::weight);
+        metrics.registerGauge("retainedRows", () -> {
+            RecentResultCache<String, NoticeTable> raw = rawWindows;
+            return raw == null ? 0 : raw.weight();
+        });
+        metrics.registerGauge("dictionaryValues", () -> NoticeDictionary.getInstance().size());
     }
 
-    private NaraApiService() {}
-
     /*
     싱글톤 인스턴스 생성
     */
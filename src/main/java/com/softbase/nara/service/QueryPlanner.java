@@ -0,0 +1,116 @@
+package com.softbase.nara.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 조회 기간 분할 계획.
+ * 1) 임의 기간을 API 제한(1개월) 이내 구간으로 나누고,
+ * 2) 구간의 totalCount가 페이지 상한(maxRowsPerShard)을 넘으면 반으로 나누기를 반복해서
+ * 각 샤드가 페이지 상한 안에서 모두 수집되도록 함.
+ * 구간은 양 끝 일시를 포함(분 단위)하며, 인접 구간은 1분 간격으로 겹치지 않게 이어짐.
+ */
+final class QueryPlanner {
+
+    /** 입찰공고일시 형식 (API 기준) */
+    static final DateTimeFormatter BID_DT_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+
+    /** 구간 totalCount 조회 (numOfRows=1 호출 등) */
+    @FunctionalInterface
+    interface TotalCountProbe {
+        long totalCount(Window window) throws Exception;
+    }
+
+    /**
+     * 조회 구간 1개 (bgn, end 모두 포함). totalCount는 조회 전이면 -1.
+     */
+    record Window(LocalDateTime bgn, LocalDateTime end, long totalCount) {
+
+        String bgnDt() {
+            return bgn.format(BID_DT_FORMAT);
+        }
+
+        String endDt() {
+            return end.format(BID_DT_FORMAT);
+        }
+
+        /** 구간 길이(분) */
+        long minutes() {
+            return Duration.between(bgn, end).toMinutes();
+        }
+
+        Window withTotalCount(long count) {
+            return new Window(bgn, end, count);
+        }
+    }
+
+    /*
+    "yyyyMMddHHmm" 문자열을 일시로 변환. 형식이 틀리면 IllegalArgumentException.
+     */
+    static LocalDateTime parse(String bidDt) {
+        try {
+            return LocalDateTime.parse(bidDt, BID_DT_FORMAT);
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw new IllegalArgumentException("날짜 형식이 올바르지 않습니다. (YYYYMMDDHHMM): " + bidDt);
+        }
+    }
+
+    /*
+    기간을 API 제한(1개월) 이내 구간으로 분할 (시간 순서).
+     */
+    static List<Window> splitLegal(LocalDateTime bgn, LocalDateTime end) {
+        if (end.isBefore(bgn)) throw new IllegalArgumentException("종료일시가 시작일시보다 앞설 수 없습니다.");
+        List<Window> windows = new ArrayList<>();
+        LocalDateTime s = bgn;
+        while (!s.isAfter(end)) {
+            LocalDateTime e = s.plusMonths(1);
+            if (e.isAfter(end)) e = end;
+            windows.add(new Window(s, e, -1));
+            s = e.plusMinutes(1);
+        }
+        return windows;
+    }
+
+    /*
+    전체 분할 계획 (시간 순서). 1개월 구간별 totalCount 조회는 병렬로 수행.
+    @param maxRowsPerShard 샤드 1개에서 수집 가능한 최대 건수 (페이지 상한 × 페이지당 건수)
+     */
+    static List<Window> plan(LocalDateTime bgn, LocalDateTime end, long maxRowsPerShard,
+                             TotalCountProbe probe) throws Exception {
+        List<Window> legal = splitLegal(bgn, end);
+        List<Window> shards = new ArrayList<>();
+        try (FetchScope<List<Window>> scope = new FetchScope<>()) {
+            for (Window w : legal) {
+                scope.fork(() -> {
+                    List<Window> out = new ArrayList<>();
+                    refine(w, maxRowsPerShard, probe, out);
+                    return out;
+                });
+            }
+            for (List<Window> part : scope.join()) {
+                shards.addAll(part);
+            }
+        }
+        return shards;
+    }
+
+    /*
+    구간 totalCount가 상한을 넘으면 반으로 나눠 재귀 확인. 1분 구간은 더 나눌 수 없으므로 그대로 사용.
+     */
+    private static void refine(Window w, long maxRowsPerShard, TotalCountProbe probe, List<Window> out) throws Exception {
+        long count = probe.totalCount(w);
+        if (count <= maxRowsPerShard || w.minutes() < 1) {
+            out.add(w.withTotalCount(count));
+            return;
+        }
+        LocalDateTime mid = w.bgn().plusMinutes(w.minutes() / 2);
+        refine(new Window(w.bgn(), mid, -1), maxRowsPerShard, probe, out);
+        refine(new Window(mid.plusMinutes(1), w.end(), -1), maxRowsPerShard, probe, out);
+    }
+
+    private QueryPlanner() {}
+}
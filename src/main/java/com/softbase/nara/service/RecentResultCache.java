@@ -0,0 +1,138 @@
+package com.softbase.nara.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongFunction;
+
+/**
+ * 최근 결과 메모리 캐시 (LRU + 만료 시간).
+ * 항목마다 무게(예: 행 수)를 매겨 무게 합계가 maxWeight를 넘거나 항목 수가 maxEntries를 넘으면 가장 오래 안 쓴 항목부터 제거.
+ * 디스크 캐시(PageDiskCache)보다 앞단에서 같은 화면 작업의 반복 요청(페이지 이동, 재조회, CSV 저장)을
+ * 파싱 없이 바로 돌려주는 용도라 TTL은 짧게 둠.
+ * 값은 공유되므로 불변이거나 호출자가 복사해서 써야 함. 스레드 안전.
+ */
+final class RecentResultCache<K, V> {
+
+    private static final class Entry<V> {
+        final V value;
+        final long weight;
+        final long expiresAtMillis;
+
+        Entry(V value, long weight, long expiresAtMillis) {
+            this.value = value;
+            this.weight = weight;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    /** 접근 순서 LinkedHashMap: 맨 앞이 가장 오래 안 쓴 항목 */
+    private final LinkedHashMap<K, Entry<V>> map = new LinkedHashMap<>(64, 0.75f, true);
+    private final int maxEntries;
+    private final long maxWeight;
+    private final long ttlMillis;
+    private final ToLongFunction<V> weigher;
+    private long totalWeight;
+
+    RecentResultCache(long maxWeight, long ttlMillis, ToLongFunction<V> weigher) {
+        this(Integer.MAX_VALUE, maxWeight, ttlMillis, weigher);
+    }
+
+    RecentResultCache(int maxEntries, long maxWeight, long ttlMillis, ToLongFunction<V> weigher) {
+        if (maxEntries < 1 || maxWeight < 1 || ttlMillis < 1) {
+            throw new IllegalArgumentException("maxEntries, maxWeight, ttlMillis는 1 이상이어야 합니다.");
+        }
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.ttlMillis = ttlMillis;
+        this.weigher = weigher;
+    }
+
+    /*
+    유효한 항목 반환 (없거나 만료되면 null, 만료 항목은 제거)
+     */
+    V get(K key) {
+        lock.lock();
+        try {
+            Entry<V> e = map.get(key);
+            if (e == null) return null;
+            if (e.expiresAtMillis <= System.currentTimeMillis()) {
+                map.remove(key);
+                totalWeight -= e.weight;
+                return null;
+            }
+            return e.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*
+    항목 저장 (같은 키는 교체). 한 항목이 maxWeight보다 무거우면 저장하지 않음.
+     */
+    void put(K key, V value) {
+        long weight = Math.max(1, weigher.applyAsLong(value));
+        if (weight > maxWeight) return;
+        lock.lock();
+        try {
+            Entry<V> old = map.put(key, new Entry<>(value, weight, System.currentTimeMillis() + ttlMillis));
+            if (old != null) totalWeight -= old.weight;
+            totalWeight += weight;
+            evict();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*
+    만료 항목을 먼저 지우고, 그래도 무게 합계·항목 수가 넘치면 오래 안 쓴 항목부터 제거
+     */
+    private void evict() {
+        if (totalWeight <= maxWeight && map.size() <= maxEntries) return;
+        long now = System.currentTimeMillis();
+        Iterator<Entry<V>> it = map.values().iterator();
+        while (it.hasNext()) {
+            Entry<V> e = it.next();
+            if (e.expiresAtMillis <= now) {
+                it.remove();
+                totalWeight -= e.weight;
+            }
+        }
+        it = map.values().iterator();
+        while ((totalWeight > maxWeight || map.size() > maxEntries) && it.hasNext()) {
+            totalWeight -= it.next().weight;
+            it.remove();
+        }
+    }
+
+    void remove(K key) {
+        lock.lock();
+        try {
+            Entry<V> old = map.remove(key);
+            if (old != null) totalWeight -= old.weight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void clear() {
+        lock.lock();
+        try {
+            map.clear();
+            totalWeight = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 현재 무게 합계 (모니터링용) */
+    long weight() {
+        lock.lock();
+        try {
+            return totalWeight;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
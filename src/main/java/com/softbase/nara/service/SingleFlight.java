@@ -0,0 +1,115 @@
+package com.softbase.nara.service;
+
+import com.softbase.nara.client.CancellationToken;
+
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.nio.channels.ClosedByInterruptException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 같은 키의 동시 호출을 하나로 합치는 실행기 (single-flight).
+ * 키별로 처음 들어온 호출(리더)만 실제 작업을 실행하고, 작업이 끝나기 전에 같은 키로 들어온 호출은
+ * 리더의 결과(또는 예외)를 그대로 받음. 작업이 끝나면 키를 지우므로 결과를 보관하지는 않음 (재사용은 RecentResultCache).
+ * 리더가 자기 조회 취소나 인터럽트(자기 조회의 다른 페이지 실패로 작업 범위가 종료된 경우 등)로 중단되면
+ * 기다리던 호출 중 하나가 새 리더가 되어 다시 실행함 (한 조회의 중단이 같은 요청을 기다리던 다른 조회까지 실패시키지 않도록).
+ * 기다리던 호출에 전달하는 것은 실제 결과와 실제 작업 실패(API 오류·시간 초과 등)뿐.
+ */
+final class SingleFlight<K, V> {
+
+    /**
+     * 리더가 중단되었음을 기다리던 호출에 알리는 표시 (CompletableFuture.get()은 CancellationException을
+     * ExecutionException으로 감싸지 않고 그대로 던지므로 합류한 쪽의 취소와 구분하려고 별도 타입 사용)
+     */
+    private static final class LeaderAborted extends RuntimeException {
+        LeaderAborted(Throwable cause) {
+            super("리더 작업 중단", cause, false, false);
+        }
+    }
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /*
+    key로 작업 실행 또는 진행 중인 같은 작업에 합류.
+    합류한 쪽의 대기는 cancel로 중단할 수 있으며(리더 작업은 계속 진행), 이때 CancellationException.
+    @param joined 합류했을 때 호출 (지표 기록용, null 가능)
+     */
+    V run(K key, CancellationToken cancel, Callable<V> loader, Runnable joined) throws Exception {
+        while (true) {
+            cancel.throwIfCancelled();
+            CompletableFuture<V> mine = new CompletableFuture<>();
+            CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+            if (existing == null) {
+                return lead(key, mine, loader);
+            }
+            if (joined != null) joined.run();
+            try {
+                return await(existing, cancel);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                // 리더가 취소·중단됨: 이쪽이 취소되지 않았으면 다시 시도 (새 리더가 되거나 다른 리더에 합류)
+                if (cause instanceof LeaderAborted) continue;
+                if (cause instanceof Exception) throw (Exception) cause;
+                if (cause instanceof Error) throw (Error) cause;
+                throw e;
+            }
+        }
+    }
+
+    private V lead(K key, CompletableFuture<V> mine, Callable<V> loader) throws Exception {
+        try {
+            V value = loader.call();
+            mine.complete(value);
+            return value;
+        } catch (Exception | Error e) {
+            // 리더 자신의 중단은 기다리던 호출에 취소로 알려 다시 시도하게 함 (리더에게는 원래 예외)
+            mine.completeExceptionally(isAbort(e) ? new LeaderAborted(e) : e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /*
+    작업 실패가 아니라 리더 스레드의 취소·인터럽트로 중단된 것인지
+    (인터럽트가 소켓·채널 예외로 바뀌어 오는 경우 포함, 소켓 시간 초과는 실제 실패로 봄)
+     */
+    private static boolean isAbort(Throwable e) {
+        if (Thread.currentThread().isInterrupted()) return true;
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof CancellationException
+                    || t instanceof InterruptedException
+                    || t instanceof ClosedByInterruptException
+                    || (t instanceof InterruptedIOException && !(t instanceof SocketTimeoutException))) {
+                return true;
+            }
+            if (t.getCause() == t) break;
+        }
+        return false;
+    }
+
+    /*
+    취소 가능한 결과 대기. 취소 시 대기 스레드를 깨움 (CancellationToken 취소 동작 → interrupt).
+     */
+    private static <V> V await(CompletableFuture<V> future, CancellationToken cancel)
+            throws InterruptedException, ExecutionException {
+        Thread waiter = Thread.currentThread();
+        V value;
+        try (CancellationToken.Registration r = cancel.onCancel(waiter::interrupt)) {
+            value = future.get();
+        } catch (InterruptedException e) {
+            cancel.throwIfCancelled();
+            throw e;
+        }
+        if (cancel.isCancelled()) {
+            // 결과를 받은 직후 취소된 경우: 취소 동작이 남긴 인터럽트 표시를 지움
+            Thread.interrupted();
+            cancel.throwIfCancelled();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,86 @@
+package com.softbase.nara.service;
+
+import com.softbase.nara.client.CancellationToken;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 버킷 방식 호출 속도 제한기.
+ * 초당 permitsPerSecond개씩 토큰이 채워지고, 최대 burst개까지 쌓임.
+ * 임의의 1초 구간 호출 수 상한 = burst + permitsPerSecond 이므로 두 값의 합을 API 한도(30 tps) 이하로 설정.
+ * 토큰이 부족하면 미리 예약(음수 잔량)하고 대기 시간만큼 잠들어 요청 순서대로 간격을 둠.
+ */
+public final class TokenBucketRateLimiter {
+
+    /** 초당 토큰 충전 수 */
+    private final double permitsPerSecond;
+    /** 최대 누적 토큰 수 (순간 버스트 허용량) */
+    private final double burst;
+    /** 현재 토큰 잔량 (음수면 이미 예약된 대기분) */
+    private double tokens;
+    /** 마지막 충전 시각 (System.nanoTime) */
+    private long lastRefillNanos;
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0) throw new IllegalArgumentException("permitsPerSecond는 0보다 커야 합니다.");
+        if (burst < 1) throw new IllegalArgumentException("burst는 1 이상이어야 합니다.");
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /*
+    토큰 1개 획득. 필요하면 토큰이 채워질 때까지 대기 (대기 중 인터럽트되면 예약한 토큰 반환).
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos <= 0) return;
+        boolean acquired = false;
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+            acquired = true;
+        } finally {
+            if (!acquired) refund();
+        }
+    }
+
+    /*
+    acquire()의 취소 가능 버전. 대기 중 취소되면 CancellationException (예약한 토큰은 반환).
+     */
+    public void acquire(CancellationToken cancel) throws InterruptedException {
+        long waitNanos = reserve();
+        boolean acquired = false;
+        try {
+            cancel.sleepNanos(waitNanos);
+            acquired = true;
+        } finally {
+            if (!acquired) refund();
+        }
+    }
+
+    /*
+    토큰 1개를 예약하고, 사용 가능해질 때까지 기다려야 하는 시간(ns) 반환.
+     */
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        double refill = (now - lastRefillNanos) / 1_000_000_000.0 * permitsPerSecond;
+        tokens = Math.min(burst, tokens + refill);
+        lastRefillNanos = now;
+
+        tokens -= 1;
+        if (tokens >= 0) return 0;
+        return (long) (-tokens / permitsPerSecond * 1_000_000_000L);
+    }
+
+    /*
+    대기를 마치지 못한 예약 토큰 1개 반환 (뒤에 예약한 호출은 이미 정한 시각에 깨어나고, 이후 호출부터 반영)
+     */
+    private synchronized void refund() {
+        tokens = Math.min(burst, tokens + 1);
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+}
@@ -0,0 +1,405 @@
+package com.softbase.nara.store;
+
+import com.softbase.nara.dto.BidNotice;
+import com.softbase.nara.dto.NoticeDictionary;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 조회 결과 행을 힙 밖(메모리 매핑 임시 파일)에 보관하는 목록. 행 수가 수십만 건이어도 힙 사용량이 거의 늘지 않음.
+ * - 행 파일: 행마다 ROW_BYTES 고정 길이 레코드 (사전 코드·일자·시각·금액 + 문자열 위치), i번째 행 위치 = i × ROW_BYTES
+ * - 문자열 파일: 공고번호·공고명·URL·매칭키워드 등 행마다 다른 문자열을 UTF-8로 이어 붙인 영역
+ * 반복 값 필드는 NoticeDictionary 코드로만 저장. 두 파일 모두 고정 크기 조각 단위로 매핑해서 늘려 감.
+ * get(i)는 레코드를 읽어 BidNotice를 만들며, 같은 행을 연달아 읽는 경우(테이블 셀 그리기)를 위해 마지막 행 1개만 기억.
+ * 집계처럼 일부 열만 필요하면 NoticeColumns 메서드로 문자열 복원 없이 레코드 값을 바로 읽음.
+ * 쓰기(add)는 한 스레드, 읽기는 여러 스레드 가능 (size()까지의 행은 항상 완전히 기록된 상태).
+ * close() 후에는 읽기·쓰기 모두 IllegalStateException. 매핑 해제는 GC 시점이라 파일 삭제가 늦어질 수 있음 (종료 시 삭제 예약).
+ * 다른 스레드에서 오래 읽는 작업(집계 등)은 retain()/release()로 감싸며, 그동안 close()를 부르면 기록만 막고
+ * 실제 해제는 마지막 release() 때 함.
+ */
+public final class MappedNoticeStore extends AbstractList<BidNotice> implements RandomAccess, NoticeColumns, Closeable {
+
+    private static final Logger log = Logger.getLogger(MappedNoticeStore.class.getName());
+
+    /** 행 레코드 길이 */
+    static final int ROW_BYTES = 144;
+    /** 행 파일 조각당 행 수 (9MB) */
+    private static final int ROWS_PER_CHUNK = 65_536;
+    /** 문자열 파일 조각 크기 (16MB, 문자열 하나는 조각 경계를 넘지 않음) */
+    private static final int STRING_CHUNK_BYTES = 16 * 1024 * 1024;
+
+    // 행 레코드 필드 위치
+    private static final int OFF_CODES = 0;                 // int × 7 (NoticeDictionary.Field 순서)
+    private static final int OFF_DATE = 28;                 // int epochDay
+    private static final int OFF_TIME = 32;                 // int secondOfDay
+    private static final int OFF_ASIGN = 40;                // long
+    private static final int OFF_PRESMPT = 48;              // long
+    private static final int OFF_STRINGS = 56;              // (long 위치 + int 길이) × 7
+    private static final int STRING_REF_BYTES = 12;
+
+    // 문자열 순번
+    private static final int S_BID_NTCE_NO = 0;
+    private static final int S_BID_NTCE_ORD = 1;
+    private static final int S_REF_NTCE_NO = 2;
+    private static final int S_BID_NTCE_NM = 3;
+    private static final int S_BID_NTCE_URL = 4;
+    private static final int S_MATCHED = 5;
+    private static final int S_UNPARSED = 6;                // BidNotice.Unparsed.encode() (대부분 null)
+
+    private static final int NO_TIME = -1;
+    /** null 문자열 길이 표시 */
+    private static final int NULL_LENGTH = -1;
+
+    private static final NoticeDictionary.Field[] FIELDS = NoticeDictionary.Field.values();
+
+    /** 코드를 해석할 사전 (만들 때의 사전) */
+    private final NoticeDictionary dict = NoticeDictionary.getInstance();
+    private final Path rowFile;
+    private final Path stringFile;
+    private final FileChannel rowChannel;
+    private final FileChannel stringChannel;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /** 매핑된 조각 (쓰기 스레드가 늘린 뒤 volatile로 공개) */
+    private volatile MappedByteBuffer[] rowChunks = new MappedByteBuffer[0];
+    private volatile MappedByteBuffer[] stringChunks = new MappedByteBuffer[0];
+    /** 문자열 영역 다음 쓰기 위치 (쓰기 스레드 전용) */
+    private long stringEnd;
+    /** 완전히 기록된 행 수 */
+    private volatile int size;
+    private volatile boolean closed;
+    /** close() 요청됨 (새 기록·retain() 거절, 해제는 읽는 작업이 모두 release()한 뒤) */
+    private volatile boolean closing;
+    /** retain()한 뒤 아직 release()하지 않은 읽기 작업 수 (writeLock 안에서만 변경) */
+    private int readers;
+
+    /** 마지막으로 읽은 행 */
+    private record CachedRow(int index, BidNotice row) {}
+    private volatile CachedRow lastRead;
+
+    private MappedNoticeStore(Path rowFile, Path stringFile) throws IOException {
+        this.rowFile = rowFile;
+        this.stringFile = stringFile;
+        this.rowChannel = FileChannel.open(rowFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            this.stringChannel = FileChannel.open(stringFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            rowChannel.close();
+            throw e;
+        }
+    }
+
+    /*
+    임시 디렉터리에 빈 보관소 생성
+     */
+    public static MappedNoticeStore create() throws IOException {
+        return create(Path.of(System.getProperty("java.io.tmpdir")));
+    }
+
+    /*
+    dir에 빈 보관소 생성 (임시 파일 2개, 종료 시 삭제 예약)
+     */
+    public static MappedNoticeStore create(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        Path rows = Files.createTempFile(dir, "nara-rows-", ".bin");
+        Path strings;
+        try {
+            strings = Files.createTempFile(dir, "nara-strings-", ".bin");
+        } catch (IOException e) {
+            Files.deleteIfExists(rows);
+            throw e;
+        }
+        rows.toFile().deleteOnExit();
+        strings.toFile().deleteOnExit();
+        try {
+            return new MappedNoticeStore(rows, strings);
+        } catch (IOException e) {
+            Files.deleteIfExists(rows);
+            Files.deleteIfExists(strings);
+            throw e;
+        }
+    }
+
+    /*
+    행 1개를 끝에 추가
+     */
+    @Override
+    public boolean add(BidNotice row) {
+        writeLock.lock();
+        try {
+            if (closing) throw new IllegalStateException("결과 보관소가 이미 닫혔습니다.");
+            int index = size;
+            MappedByteBuffer chunk = rowChunk(index / ROWS_PER_CHUNK);
+            int base = (index % ROWS_PER_CHUNK) * ROW_BYTES;
+
+            for (NoticeDictionary.Field f : FIELDS) {
+                chunk.putInt(base + OFF_CODES + f.ordinal() * 4, dict.encode(f, f.valueOf(row)));
+            }
+            chunk.putInt(base + OFF_DATE, row.bidNtceDate() == null ? NO_DATE : (int) row.bidNtceDate().toEpochDay());
+            chunk.putInt(base + OFF_TIME, row.bidNtceBgn() == null ? NO_TIME : row.bidNtceBgn().toSecondOfDay());
+            chunk.putLong(base + OFF_ASIGN, row.asignBdgtAmt());
+            chunk.putLong(base + OFF_PRESMPT, row.presmptPrce());
+            putString(chunk, base, S_BID_NTCE_NO, row.bidNtceNo());
+            putString(chunk, base, S_BID_NTCE_ORD, row.bidNtceOrd());
+            putString(chunk, base, S_REF_NTCE_NO, row.refNtceNo());
+            putString(chunk, base, S_BID_NTCE_NM, row.bidNtceNm());
+            putString(chunk, base, S_BID_NTCE_URL, row.bidNtceUrl());
+            putString(chunk, base, S_MATCHED, row.matchedKeywords());
+            putString(chunk, base, S_UNPARSED, row.unparsed() == null ? null : row.unparsed().encode());
+            // 레코드를 모두 기록한 뒤 건수 공개 (읽기 스레드는 size 이전 행만 읽음)
+            size = index + 1;
+            return true;
+        } catch (IOException e) {
+            throw new IllegalStateException("결과 보관 파일 기록 실패: " + e.getMessage(), e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /*
+    i번째 행 (0부터)
+     */
+    @Override
+    public BidNotice get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("index " + index + ", size " + size);
+        CachedRow cached = lastRead;
+        if (cached != null && cached.index() == index) return cached.row();
+        ensureOpen();
+        MappedByteBuffer chunk = rowChunks[index / ROWS_PER_CHUNK];
+        MappedByteBuffer[] strings = stringChunks;
+        int base = (index % ROWS_PER_CHUNK) * ROW_BYTES;
+
+        int date = chunk.getInt(base + OFF_DATE);
+        int time = chunk.getInt(base + OFF_TIME);
+        BidNotice row = new BidNotice(
+                getString(chunk, base, S_BID_NTCE_NO, strings),
+                getString(chunk, base, S_BID_NTCE_ORD, strings),
+                getString(chunk, base, S_REF_NTCE_NO, strings),
+                decode(dict, chunk, base, NoticeDictionary.Field.PPS_NTCE_YN),
+                getString(chunk, base, S_BID_NTCE_NM, strings),
+                decode(dict, chunk, base, NoticeDictionary.Field.BID_NTCE_STTUS_NM),
+                date == NO_DATE ? null : LocalDate.ofEpochDay(date),
+                time == NO_TIME ? null : LocalTime.ofSecondOfDay(time),
+                decode(dict, chunk, base, NoticeDictionary.Field.BSNS_DIV_NM),
+                decode(dict, chunk, base, NoticeDictionary.Field.CNTRCT_CNCLS_STTUS_NM),
+                decode(dict, chunk, base, NoticeDictionary.Field.CNTRCT_CNCLS_MTHD_NM),
+                decode(dict, chunk, base, NoticeDictionary.Field.NTCE_INSTT_NM),
+                decode(dict, chunk, base, NoticeDictionary.Field.DMND_INSTT_NM),
+                chunk.getLong(base + OFF_ASIGN),
+                chunk.getLong(base + OFF_PRESMPT),
+                getString(chunk, base, S_BID_NTCE_URL, strings),
+                getString(chunk, base, S_MATCHED, strings),
+                BidNotice.Unparsed.decode(getString(chunk, base, S_UNPARSED, strings))
+        );
+        lastRead = new CachedRow(index, row);
+        return row;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public NoticeDictionary dictionary() {
+        return dict;
+    }
+
+    @Override
+    public int code(NoticeDictionary.Field field, int i) {
+        return rowChunkFor(i).getInt((i % ROWS_PER_CHUNK) * ROW_BYTES + OFF_CODES + field.ordinal() * 4);
+    }
+
+    @Override
+    public int bidNtceEpochDay(int i) {
+        return rowChunkFor(i).getInt((i % ROWS_PER_CHUNK) * ROW_BYTES + OFF_DATE);
+    }
+
+    @Override
+    public long asignBdgtAmt(int i) {
+        return rowChunkFor(i).getLong((i % ROWS_PER_CHUNK) * ROW_BYTES + OFF_ASIGN);
+    }
+
+    @Override
+    public long presmptPrce(int i) {
+        return rowChunkFor(i).getLong((i % ROWS_PER_CHUNK) * ROW_BYTES + OFF_PRESMPT);
+    }
+
+    /*
+    읽기용 행 조각 (범위·닫힘 확인 포함)
+     */
+    private MappedByteBuffer rowChunkFor(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("index " + index + ", size " + size);
+        ensureOpen();
+        return rowChunks[index / ROWS_PER_CHUNK];
+    }
+
+    /*
+    보관 파일 크기 합계 (바이트, 매핑한 조각 기준)
+     */
+    public long mappedBytes() {
+        return (long) rowChunks.length * ROWS_PER_CHUNK * ROW_BYTES + (long) stringChunks.length * STRING_CHUNK_BYTES;
+    }
+
+    /*
+    다른 스레드의 읽기 작업 시작: 끝날 때까지 close()가 파일을 해제하지 않음 (이미 닫혔거나 닫는 중이면 false).
+    true를 받으면 반드시 release() 호출.
+     */
+    public boolean retain() {
+        writeLock.lock();
+        try {
+            if (closing) return false;
+            readers++;
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /*
+    retain()한 읽기 작업 끝 (close()가 요청된 상태에서 마지막이면 해제)
+     */
+    public void release() {
+        writeLock.lock();
+        try {
+            if (readers == 0) throw new IllegalStateException("retain() 없이 release()");
+            if (--readers == 0 && closing) releaseFiles();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /*
+    보관소 닫기: 파일 채널을 닫고 임시 파일 삭제 시도 (매핑이 남아 삭제할 수 없는 OS에서는 종료 시 삭제).
+    retain()한 읽기 작업이 남아 있으면 기록만 막고 해제는 마지막 release() 때.
+     */
+    @Override
+    public void close() {
+        writeLock.lock();
+        try {
+            if (closing) return;
+            closing = true;
+            if (readers == 0) releaseFiles();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /*
+    매핑·채널·임시 파일 해제 (writeLock 안에서)
+     */
+    private void releaseFiles() {
+        closed = true;
+        rowChunks = new MappedByteBuffer[0];
+        stringChunks = new MappedByteBuffer[0];
+        lastRead = null;
+        closeQuietly(rowChannel);
+        closeQuietly(stringChannel);
+        deleteQuietly(rowFile);
+        deleteQuietly(stringFile);
+    }
+
+    private void ensureOpen() {
+        if (closed) throw new IllegalStateException("결과 보관소가 이미 닫혔습니다.");
+    }
+
+    /*
+    행 조각 (없으면 새로 매핑, 쓰기 스레드 전용)
+     */
+    private MappedByteBuffer rowChunk(int chunkIndex) throws IOException {
+        MappedByteBuffer[] chunks = rowChunks;
+        if (chunkIndex < chunks.length) return chunks[chunkIndex];
+        long bytes = (long) ROWS_PER_CHUNK * ROW_BYTES;
+        MappedByteBuffer chunk = rowChannel.map(FileChannel.MapMode.READ_WRITE, chunkIndex * bytes, bytes);
+        MappedByteBuffer[] grown = Arrays.copyOf(chunks, chunkIndex + 1);
+        grown[chunkIndex] = chunk;
+        rowChunks = grown;
+        return chunk;
+    }
+
+    /*
+    문자열을 문자열 영역 끝에 쓰고, 행 레코드의 slot 자리에 (위치, 길이) 기록
+     */
+    private void putString(MappedByteBuffer rowChunk, int base, int slot, String value) throws IOException {
+        int refOffset = base + OFF_STRINGS + slot * STRING_REF_BYTES;
+        if (value == null) {
+            rowChunk.putLong(refOffset, 0);
+            rowChunk.putInt(refOffset + 8, NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > STRING_CHUNK_BYTES) {
+            throw new IOException("문자열이 너무 깁니다: " + bytes.length + "바이트");
+        }
+        // 조각 경계를 넘으면 다음 조각 처음부터
+        long pos = stringEnd;
+        if (pos % STRING_CHUNK_BYTES + bytes.length > STRING_CHUNK_BYTES) {
+            pos = (pos / STRING_CHUNK_BYTES + 1) * STRING_CHUNK_BYTES;
+        }
+        int chunkIndex = (int) (pos / STRING_CHUNK_BYTES);
+        MappedByteBuffer chunk = stringChunk(chunkIndex);
+        chunk.put((int) (pos % STRING_CHUNK_BYTES), bytes);
+        stringEnd = pos + bytes.length;
+        rowChunk.putLong(refOffset, pos);
+        rowChunk.putInt(refOffset + 8, bytes.length);
+    }
+
+    private MappedByteBuffer stringChunk(int chunkIndex) throws IOException {
+        MappedByteBuffer[] chunks = stringChunks;
+        if (chunkIndex < chunks.length) return chunks[chunkIndex];
+        MappedByteBuffer chunk = stringChannel.map(FileChannel.MapMode.READ_WRITE,
+                (long) chunkIndex * STRING_CHUNK_BYTES, STRING_CHUNK_BYTES);
+        MappedByteBuffer[] grown = Arrays.copyOf(chunks, chunkIndex + 1);
+        grown[chunkIndex] = chunk;
+        stringChunks = grown;
+        return chunk;
+    }
+
+    private static String getString(MappedByteBuffer rowChunk, int base, int slot, MappedByteBuffer[] strings) {
+        int refOffset = base + OFF_STRINGS + slot * STRING_REF_BYTES;
+        int length = rowChunk.getInt(refOffset + 8);
+        if (length == NULL_LENGTH) return null;
+        if (length == 0) return "";
+        long pos = rowChunk.getLong(refOffset);
+        byte[] bytes = new byte[length];
+        strings[(int) (pos / STRING_CHUNK_BYTES)].get((int) (pos % STRING_CHUNK_BYTES), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String decode(NoticeDictionary dict, MappedByteBuffer chunk, int base, NoticeDictionary.Field f) {
+        return dict.decode(f, chunk.getInt(base + OFF_CODES + f.ordinal() * 4));
+    }
+
+
+    private static void closeQuietly(FileChannel ch) {
+        try {
+            ch.close();
+        } catch (IOException e) {
+            log.log(Level.FINE, "결과 보관 파일 닫기 실패", e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // Windows는 매핑이 해제(GC)되기 전에는 삭제할 수 없음 → deleteOnExit에 맡김
+            log.log(Level.FINE, "결과 보관 파일 삭제 보류: " + file, e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.softbase.nara.store;
+
+import com.softbase.nara.dto.NoticeDictionary;
+
+/**
+ * 행을 BidNotice로 만들지 않고 열 값을 바로 읽는 접근 방식 (집계·필터처럼 일부 열만 훑는 작업용).
+ * 반복 값 필드는 dictionary()의 코드, 일자는 epochDay(없으면 NO_DATE), 금액은 long(없으면 BidNotice.NO_AMOUNT).
+ */
+public interface NoticeColumns {
+
+    /** 일자 없음 */
+    int NO_DATE = Integer.MIN_VALUE;
+
+    int size();
+
+    /*
+    code() 값을 해석할 사전 (보관소를 만들 때의 사전)
+     */
+    NoticeDictionary dictionary();
+
+    /*
+    i번째 행의 사전 코드
+     */
+    int code(NoticeDictionary.Field field, int i);
+
+    /*
+    i번째 행의 입찰공고일자 (epochDay, 없으면 NO_DATE)
+     */
+    int bidNtceEpochDay(int i);
+
+    long asignBdgtAmt(int i);
+
+    long presmptPrce(int i);
+
+    /*
+    cols의 일부 행만 rows 순서대로 보이는 열 형식 (복사 없음, 결과 내 검색 결과 집계용)
+     */
+    static NoticeColumns select(NoticeColumns cols, int[] rows) {
+        return new NoticeColumns() {
+            @Override
+            public int size() {
+                return rows.length;
+            }
+
+            @Override
+            public NoticeDictionary dictionary() {
+                return cols.dictionary();
+            }
+
+            @Override
+            public int code(NoticeDictionary.Field field, int i) {
+                return cols.code(field, rows[i]);
+            }
+
+            @Override
+            public int bidNtceEpochDay(int i) {
+                return cols.bidNtceEpochDay(rows[i]);
+            }
+
+            @Override
+            public long asignBdgtAmt(int i) {
+                return cols.asignBdgtAmt(rows[i]);
+            }
+
+            @Override
+            public long presmptPrce(int i) {
+                return cols.presmptPrce(rows[i]);
+            }
+        };
+    }
+}
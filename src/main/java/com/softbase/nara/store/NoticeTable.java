@@ -0,0 +1,196 @@
+package com.softbase.nara.store;
+
+import com.softbase.nara.dto.BidNotice;
+import com.softbase.nara.dto.NoticeDictionary;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 공고 행 목록의 열 단위 보관 형식 (필터 전 원본 보관용, 불변).
+ * 반복되는 필드는 NoticeDictionary 코드(int)로, 일자·시각·금액은 기본형 배열로 저장해서
+ * 행마다 BidNotice·LocalDate·LocalTime 객체를 두지 않음. 공고번호·공고명·URL처럼 행마다 다른 값만 String으로 보관.
+ * 조건 적용은 열 값을 직접 읽고, 통과한 행만 row()로 BidNotice를 다시 만듦.
+ */
+public final class NoticeTable implements NoticeColumns {
+
+    /** 시각 없음 (secondOfDay 자리) */
+    private static final int NO_TIME = -1;
+
+    private static final NoticeDictionary.Field[] FIELDS = NoticeDictionary.Field.values();
+
+    /** codes를 해석할 사전 */
+    private final NoticeDictionary dict;
+    private final int size;
+    private final String[] bidNtceNo;
+    private final String[] bidNtceOrd;
+    private final String[] refNtceNo;
+    private final String[] bidNtceNm;
+    private final String[] bidNtceUrl;
+    /** [NoticeDictionary.Field 순번][행] → 사전 코드 */
+    private final int[][] codes;
+    /** 입찰공고일자 (epochDay) */
+    private final int[] bidNtceDate;
+    /** 입찰공고시각 (하루 중 초) */
+    private final int[] bidNtceBgn;
+    private final long[] asignBdgtAmt;
+    private final long[] presmptPrce;
+    /** 해석하지 못한 원본 값 (거의 모든 행이 null) */
+    private final BidNotice.Unparsed[] unparsed;
+
+    private NoticeTable(NoticeDictionary dict, int size) {
+        this.dict = dict;
+        this.size = size;
+        this.bidNtceNo = new String[size];
+        this.bidNtceOrd = new String[size];
+        this.refNtceNo = new String[size];
+        this.bidNtceNm = new String[size];
+        this.bidNtceUrl = new String[size];
+        this.codes = new int[FIELDS.length][size];
+        this.bidNtceDate = new int[size];
+        this.bidNtceBgn = new int[size];
+        this.asignBdgtAmt = new long[size];
+        this.presmptPrce = new long[size];
+        this.unparsed = new BidNotice.Unparsed[size];
+    }
+
+    /*
+    앞 size행을 새 크기 배열로 복사한 표 (빌더의 배열 늘리기·마무리용)
+     */
+    private NoticeTable(NoticeTable src, int size) {
+        this.dict = src.dict;
+        this.size = size;
+        this.bidNtceNo = Arrays.copyOf(src.bidNtceNo, size);
+        this.bidNtceOrd = Arrays.copyOf(src.bidNtceOrd, size);
+        this.refNtceNo = Arrays.copyOf(src.refNtceNo, size);
+        this.bidNtceNm = Arrays.copyOf(src.bidNtceNm, size);
+        this.bidNtceUrl = Arrays.copyOf(src.bidNtceUrl, size);
+        this.codes = new int[FIELDS.length][];
+        for (int f = 0; f < FIELDS.length; f++) this.codes[f] = Arrays.copyOf(src.codes[f], size);
+        this.bidNtceDate = Arrays.copyOf(src.bidNtceDate, size);
+        this.bidNtceBgn = Arrays.copyOf(src.bidNtceBgn, size);
+        this.asignBdgtAmt = Arrays.copyOf(src.asignBdgtAmt, size);
+        this.presmptPrce = Arrays.copyOf(src.presmptPrce, size);
+        this.unparsed = Arrays.copyOf(src.unparsed, size);
+    }
+
+    /*
+    행 목록을 열 형식으로 변환 (매칭키워드는 보관하지 않음: 조건 적용 시 다시 계산)
+     */
+    public static NoticeTable of(List<BidNotice> rows) {
+        NoticeTable t = new NoticeTable(NoticeDictionary.getInstance(), rows.size());
+        for (int i = 0; i < t.size; i++) {
+            t.set(i, rows.get(i));
+        }
+        return t;
+    }
+
+    /*
+    i번째 칸에 행 기록
+     */
+    private void set(int i, BidNotice r) {
+        bidNtceNo[i] = r.bidNtceNo();
+        bidNtceOrd[i] = r.bidNtceOrd();
+        refNtceNo[i] = r.refNtceNo();
+        bidNtceNm[i] = r.bidNtceNm();
+        bidNtceUrl[i] = r.bidNtceUrl();
+        for (NoticeDictionary.Field f : FIELDS) {
+            codes[f.ordinal()][i] = dict.encode(f, f.valueOf(r));
+        }
+        bidNtceDate[i] = r.bidNtceDate() == null ? NO_DATE : (int) r.bidNtceDate().toEpochDay();
+        bidNtceBgn[i] = r.bidNtceBgn() == null ? NO_TIME : r.bidNtceBgn().toSecondOfDay();
+        asignBdgtAmt[i] = r.asignBdgtAmt();
+        presmptPrce[i] = r.presmptPrce();
+        unparsed[i] = r.unparsed();
+    }
+
+    /**
+     * 페이지가 도착하는 대로 행을 열 배열에 바로 기록하며 표를 만드는 빌더 (BidNotice 목록을 따로 모으지 않음).
+     * 한 스레드에서만 사용.
+     */
+    public static final class Builder {
+        private NoticeTable table = new NoticeTable(NoticeDictionary.getInstance(), 1024);
+        private int size;
+
+        public void addAll(List<BidNotice> rows) {
+            if (size + rows.size() > table.size) {
+                table = new NoticeTable(table, Math.max(size + rows.size(), table.size * 2));
+            }
+            for (BidNotice r : rows) table.set(size++, r);
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /*
+        지금까지 기록한 행의 표 (남는 칸은 잘라냄)
+         */
+        public NoticeTable build() {
+            return size == table.size ? table : new NoticeTable(table, size);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public NoticeDictionary dictionary() {
+        return dict;
+    }
+
+    @Override
+    public int code(NoticeDictionary.Field field, int i) {
+        return codes[field.ordinal()][i];
+    }
+
+    @Override
+    public int bidNtceEpochDay(int i) {
+        return bidNtceDate[i];
+    }
+
+    @Override
+    public long asignBdgtAmt(int i) {
+        return asignBdgtAmt[i];
+    }
+
+    @Override
+    public long presmptPrce(int i) {
+        return presmptPrce[i];
+    }
+
+    public String bidNtceNm(int i) {
+        return bidNtceNm[i];
+    }
+
+    /*
+    i번째 행을 BidNotice로 복원 (사전 값은 대표 인스턴스 그대로 공유)
+     */
+    public BidNotice row(int i, String matchedKeywords) {
+        return new BidNotice(
+                bidNtceNo[i], bidNtceOrd[i], refNtceNo[i],
+                decode(NoticeDictionary.Field.PPS_NTCE_YN, i),
+                bidNtceNm[i],
+                decode(NoticeDictionary.Field.BID_NTCE_STTUS_NM, i),
+                bidNtceDate[i] == NO_DATE ? null : LocalDate.ofEpochDay(bidNtceDate[i]),
+                bidNtceBgn[i] == NO_TIME ? null : LocalTime.ofSecondOfDay(bidNtceBgn[i]),
+                decode(NoticeDictionary.Field.BSNS_DIV_NM, i),
+                decode(NoticeDictionary.Field.CNTRCT_CNCLS_STTUS_NM, i),
+                decode(NoticeDictionary.Field.CNTRCT_CNCLS_MTHD_NM, i),
+                decode(NoticeDictionary.Field.NTCE_INSTT_NM, i),
+                decode(NoticeDictionary.Field.DMND_INSTT_NM, i),
+                asignBdgtAmt[i], presmptPrce[i],
+                bidNtceUrl[i],
+                matchedKeywords,
+                unparsed[i]
+        );
+    }
+
+    private String decode(NoticeDictionary.Field f, int i) {
+        return dict.decode(f, codes[f.ordinal()][i]);
+    }
+}
@@ -0,0 +1,112 @@
+package com.softbase.nara.ui;
+
+import com.softbase.nara.dto.BidItemColumn;
+import com.softbase.nara.dto.BidNotice;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.Collections;
+import java.util.List;
+
+/*
+공고 목록을 그대로 보여주는 테이블 모델 (행 복사 없음).
+0열은 순번(목록 위치 + 1), 나머지는 BidItemColumn.GRID_KEY_LIST 순서이며 셀 값은 그릴 때 BidNotice.cell()로 만듦.
+목록의 한 페이지 구간만 보이거나(pageSize > 0) 전체를 보일 수 있음(pageSize == 0).
+목록은 EDT에서만 변경하고, 끝에 행을 추가한 뒤에는 rowsAppended()를 호출해야 함.
+ */
+final class BidTableModel extends AbstractTableModel {
+
+    /** 표시할 목록 (조회 결과 캐시를 그대로 참조) */
+    private List<BidNotice> rows = Collections.emptyList();
+    /** 보이는 구간 시작 위치 */
+    private int from;
+    /** 한 번에 보일 최대 행 수 (0이면 전체) */
+    private int pageSize;
+    /** 마지막으로 알린 행 수 (rowsAppended에서 추가분 계산용) */
+    private int lastRowCount;
+
+    private final String[] columnNames;
+
+    BidTableModel() {
+        columnNames = new String[BidItemColumn.GRID_KEY_LIST.size() + 1];
+        columnNames[0] = "순번";
+        for (int i = 0; i < BidItemColumn.GRID_KEY_LIST.size(); i++) {
+            String k = BidItemColumn.GRID_KEY_LIST.get(i);
+            columnNames[i + 1] = BidItemColumn.KEY_TO_DISPLAY_NAME.getOrDefault(k, k);
+        }
+    }
+
+    /*
+    목록 전체 보기 (페이지 구분 없음)
+     */
+    void showAll(List<BidNotice> rows) {
+        show(rows, 0, 0);
+    }
+
+    /*
+    목록의 pageNo 페이지(1부터) 구간만 보기
+     */
+    void showPage(List<BidNotice> rows, int pageNo, int pageSize) {
+        show(rows, (pageNo - 1) * pageSize, pageSize);
+    }
+
+    private void show(List<BidNotice> rows, int from, int pageSize) {
+        this.rows = rows == null ? Collections.emptyList() : rows;
+        this.from = from;
+        this.pageSize = pageSize;
+        lastRowCount = getRowCount();
+        fireTableDataChanged();
+    }
+
+    /*
+    비우기
+     */
+    void clear() {
+        showAll(null);
+    }
+
+    /*
+    목록 끝에 행이 추가된 뒤 호출. 보이는 구간에 새로 들어온 행만 알림.
+     */
+    void rowsAppended() {
+        int count = getRowCount();
+        if (count > lastRowCount) {
+            int first = lastRowCount;
+            lastRowCount = count;
+            fireTableRowsInserted(first, count - 1);
+        }
+    }
+
+    /*
+    보이는 행 위치의 공고
+     */
+    BidNotice getRow(int rowIndex) {
+        return rows.get(from + rowIndex);
+    }
+
+    @Override
+    public int getRowCount() {
+        int remain = Math.max(0, rows.size() - from);
+        return pageSize > 0 ? Math.min(remain, pageSize) : remain;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int columnIndex) {
+        return String.class;
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        if (columnIndex == 0) return String.valueOf(from + rowIndex + 1);
+        return getRow(rowIndex).cell(columnIndex - 1);
+    }
+}
@@ -1,30 +1,37 @@
 package com.softbase.nara.ui;
 
+import com.softbase.nara.client.CancellationToken;
 import com.softbase.nara.config.NaraApiConfig;
-import com.softbase.nara.dto.BidItemColumn;
+import com.softbase.nara.dto.BidNotice;
 import com.softbase.nara.dto.GridResult;
+import com.softbase.nara.dto.NoticeDictionary;
+import com.softbase.nara.export.BidCsvWriter;
+import com.softbase.nara.metrics.NaraMetrics;
+import com.softbase.nara.search.BigramIndex;
 import com.softbase.nara.service.NaraApiService;
+import com.softbase.nara.store.MappedNoticeStore;
+import com.softbase.nara.store.NoticeColumns;
+import com.softbase.nara.store.NoticeTable;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.table.TableCellRenderer;
 import javax.swing.table.TableColumn;
 import java.awt.*;
-import java.io.BufferedWriter;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.io.FileOutputStream;
 import java.io.File;
-import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 import java.util.logging.Logger;
 
 /*
@@ -38,6 +45,9 @@ public final class NaraGetSwing {
     // 한 페이지당 표시 하는 행의 개수
     private static final int ROWS_PER_PAGE = 50;
 
+    // 컬럼 너비 계산 시 렌더러로 측정하는 최대 행 수 (전체 보기에서도 EDT 부담을 일정하게 유지)
+    private static final int COLUMN_SIZE_SAMPLE_ROWS = 200;
+
     // API 서비스 인스턴스
     private final NaraApiService apiService = NaraApiService.getInstance();
 
@@ -49,12 +59,24 @@ public final class NaraGetSwing {
     private JLabel lbStatus;
     private JLabel lbSummary;
 
-    // 테이블 모델
-    private DefaultTableModel tableModel;
+    // 테이블 모델 (조회 결과 목록을 복사 없이 표시)
+    private BidTableModel tableModel;
     private JTable table;
 
+    // 결과 탭 (공고 목록 / 통계)
+    private JTabbedPane resultTabs;
+    private SummaryPanel summaryPanel;
+
+    // 조건 없는 조회에서 마지막으로 표시한 API 페이지 행 (통계 대상, 없으면 null)
+    private List<BidNotice> pageRows;
+
+    // 컬럼별 내용 맞춤 너비 (조회마다 초기화, 측정값 중 최대값 유지)
+    private int[] fittedColumnWidths;
+
     // 페이징 패널
     private JPanel paginationPanel;
+    // 수집 결과 전체 보기 (페이지 구분 없이 스크롤)
+    private JCheckBox cbShowAll;
 
     // 마지막 조회 조건 (캐시 저장용)
     private String lastBgn, lastEnd, lastMinAmt, lastSearch, lastWorkType;
@@ -62,7 +84,31 @@ public final class NaraGetSwing {
     private int currentPage = 1;
 
     // 캐시된 필터링된 행 (API 호출 결과 저장용)
-    private List<Map<String, String>> cachedFilteredRows = null;
+    private List<BidNotice> cachedFilteredRows = null;
+    // cachedFilteredRows의 수집이 끝까지 성공했는지 (수집 중·취소·오류면 false, 부분 결과를 "전체"로 저장하지 않기 위함)
+    private boolean cachedRowsComplete = false;
+
+    // 조건 조회 결과 보관소 (힙 밖 메모리 매핑 파일, 다음 조회로 바뀔 때 닫음, EDT에서만 변경)
+    private MappedNoticeStore resultStore;
+
+    // 조건 조회 결과 전체(결과 내 검색 전)와 그 공고명 색인 (조건 없는 조회면 null, EDT에서만 변경)
+    private PublishedRows resultRows;
+    private BigramIndex searchIndex;
+    // 결과 내 검색식 (검색창 입력이 마지막 조회 검색어와 다를 때만, 없으면 null)
+    private BigramIndex.Query instantQuery;
+
+    // 조회 세대 (새 조회를 시작하면 증가, 이전 조회의 늦은 결과 반영 방지용)
+    private int searchGeneration = 0;
+
+    // 진행 중인 조회·CSV 저장의 취소 토큰 (없으면 null, EDT에서만 변경)
+    private CancellationToken searchCancel;
+    private CancellationToken exportCancel;
+    private JButton btnCancel;
+
+    /*
+    수집 중 도착한 페이지 결과 (SwingWorker publish 단위)
+    */
+    private record PageChunk(int pageIndex, int pageCount) {}
 
     /*
     메인 메서드
@@ -102,32 +148,61 @@ public final class NaraGetSwing {
         top.add(btnSearch);
         JButton btnSaveCsv = new JButton("CSV 저장");
         top.add(btnSaveCsv);
+        btnCancel = new JButton("취소");
+        btnCancel.setEnabled(false);
+        top.add(btnCancel);
 
         lbSummary = new JLabel(" ");
         JPanel northPanel = new JPanel(new BorderLayout());
         northPanel.add(top, BorderLayout.NORTH);
         northPanel.add(lbSummary, BorderLayout.SOUTH);
 
-        String[] colNames = buildColumnNames();
-        tableModel = new DefaultTableModel(colNames, 0);
+        tableModel = new BidTableModel();
         table = new JTable(tableModel);
         table.setAutoResizeMode(JTable.AUTO_RESIZE_OFF);
         setPreferredColumnWidths();
 
         JScrollPane scrollPane = new JScrollPane(table);
 
+        summaryPanel = new SummaryPanel(this::summarySource);
+        resultTabs = new JTabbedPane();
+        resultTabs.addTab("공고 목록", scrollPane);
+        resultTabs.addTab("통계", summaryPanel);
+        resultTabs.addChangeListener(e -> refreshSummaryIfShown());
+
         lbStatus = new JLabel("Ready");
         paginationPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 4, 2));
+        cbShowAll = new JCheckBox("전체 보기");
+        cbShowAll.setEnabled(false);
+        cbShowAll.addActionListener(e -> onShowAllChanged());
         JPanel bottom = new JPanel(new BorderLayout());
         bottom.add(lbStatus, BorderLayout.WEST);
         bottom.add(paginationPanel, BorderLayout.CENTER);
+        bottom.add(cbShowAll, BorderLayout.EAST);
 
         btnSearch.addActionListener(e -> onSearch());
+        tfSearch.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                onSearchTextChanged();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                onSearchTextChanged();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                onSearchTextChanged();
+            }
+        });
         btnSaveCsv.addActionListener(e -> onSaveCsv());
+        btnCancel.addActionListener(e -> onCancel());
 
         frame.getContentPane().setLayout(new BorderLayout());
         frame.getContentPane().add(northPanel, BorderLayout.NORTH);
-        frame.getContentPane().add(scrollPane, BorderLayout.CENTER);
+        frame.getContentPane().add(resultTabs, BorderLayout.CENTER);
         frame.getContentPane().add(bottom, BorderLayout.SOUTH);
 
         frame.setLocationRelativeTo(null);
@@ -135,16 +210,10 @@ public final class NaraGetSwing {
     }
 
     /*
-    컬럼 이름 생성
+    누적 단계별 지표(HTTP·파싱·필터·페이지 수집 p50/p95/p99) 로그 출력
     */
-    private String[] buildColumnNames() {
-        String[] colNames = new String[BidItemColumn.KEY_LIST.size() + 1];
-        colNames[0] = "순번";
-        for (int i = 0; i < BidItemColumn.KEY_LIST.size(); i++) {
-            String k = BidItemColumn.KEY_LIST.get(i);
-            colNames[i + 1] = BidItemColumn.KEY_TO_DISPLAY_NAME.getOrDefault(k, k);
-        }
-        return colNames;
+    private static void logMetrics(String label) {
+        log.info(label + " | " + NaraMetrics.getInstance().snapshot().toText());
     }
 
     /*
@@ -154,12 +223,46 @@ public final class NaraGetSwing {
         lbStatus.setText(msg);
     }
 
+    /*
+    취소 버튼: 진행 중인 조회와 CSV 저장을 모두 취소 (진행 중 HTTP 요청 중단, 남은 페이지는 호출하지 않음)
+    */
+    private void onCancel() {
+        cancelSearch();
+        if (exportCancel != null) {
+            exportCancel.cancel();
+        }
+        setStatus("취소 중...");
+    }
+
+    /*
+    진행 중인 조회 취소 (새 조회·페이지 이동 시 이전 조회는 자동으로 취소)
+    */
+    private void cancelSearch() {
+        if (searchCancel != null) {
+            searchCancel.cancel();
+            searchCancel = null;
+        }
+        updateCancelButton();
+    }
+
+    private void updateCancelButton() {
+        btnCancel.setEnabled(searchCancel != null || exportCancel != null);
+    }
+
+    /*
+    SwingWorker.get() 예외가 취소로 인한 것인지 확인
+    */
+    private static boolean isCancellation(Exception ex) {
+        Throwable t = ex instanceof ExecutionException ? ex.getCause() : ex;
+        return t instanceof CancellationException;
+    }
+
     /*
     컬럼 너비 설정
     */
     private void setPreferredColumnWidths() {
         int[] widths = {
-                50, 120, 100, 100, 320, 90, 100, 90, 70, 120, 90, 180, 180, 130, 130, 420
+                50, 120, 100, 100, 320, 90, 100, 90, 70, 120, 90, 180, 180, 130, 130, 420, 160
         };
         for (int c = 0; c < table.getColumnCount() && c < widths.length; c++) {
             table.getColumnModel().getColumn(c).setPreferredWidth(widths[c]);
@@ -167,27 +270,37 @@ public final class NaraGetSwing {
     }
 
     /*
-    컬럼 너비 조정
+    컬럼 너비 조정.
+    행이 많으면 고르게 간격을 둔 최대 COLUMN_SIZE_SAMPLE_ROWS개 행만 렌더러로 측정하고,
+    컬럼별 측정값은 fittedColumnWidths에 보관해 너비가 줄었다 늘었다 하지 않도록 최대값만 반영.
     */
     private void resizeColumnsToFitContent() {
         int margin = 12;
-        for (int c = 0; c < table.getColumnCount(); c++) {
-            TableColumn col = table.getColumnModel().getColumn(c);
-            int width = 0;
-
+        int columnCount = table.getColumnCount();
+        if (fittedColumnWidths == null || fittedColumnWidths.length != columnCount) {
+            fittedColumnWidths = new int[columnCount];
             TableCellRenderer headerRenderer = table.getTableHeader().getDefaultRenderer();
-            Component headerComp = headerRenderer.getTableCellRendererComponent(
-                    table, col.getHeaderValue(), false, false, -1, c);
-            width = Math.max(width, headerComp.getPreferredSize().width);
+            for (int c = 0; c < columnCount; c++) {
+                Component headerComp = headerRenderer.getTableCellRendererComponent(
+                        table, table.getColumnModel().getColumn(c).getHeaderValue(), false, false, -1, c);
+                fittedColumnWidths[c] = headerComp.getPreferredSize().width;
+            }
+        }
 
-            for (int r = 0; r < table.getRowCount(); r++) {
+        int rowCount = table.getRowCount();
+        int samples = Math.min(rowCount, COLUMN_SIZE_SAMPLE_ROWS);
+        for (int c = 0; c < columnCount; c++) {
+            TableColumn col = table.getColumnModel().getColumn(c);
+            int width = fittedColumnWidths[c];
+            for (int i = 0; i < samples; i++) {
+                int r = (int) ((long) i * rowCount / samples);
                 TableCellRenderer cellRenderer = table.getCellRenderer(r, c);
                 Component cellComp = cellRenderer.getTableCellRendererComponent(
                         table, table.getValueAt(r, c), false, false, r, c);
                 width = Math.max(width, cellComp.getPreferredSize().width);
             }
-
-            col.setPreferredWidth(width + margin);
+            fittedColumnWidths[c] = width;
+            if (col.getPreferredWidth() != width + margin) col.setPreferredWidth(width + margin);
         }
     }
 
@@ -230,7 +343,7 @@ public final class NaraGetSwing {
     }
 
     /*
-    조회 기간이 API 제한(1개월) 이내인지 검증.
+    조회 기간 형식·순서 검증. 1개월(API 제한)을 넘는 기간은 서비스에서 구간을 나눠 조회하므로 허용.
     @return 검증 실패 시 사용자에게 보여줄 메시지, 통과 시 null
      */
     private String validateBidDateRange(String bidNtceBgnDt, String bidNtceEndDt) {
@@ -249,12 +362,18 @@ public final class NaraGetSwing {
         if (!end.isAfter(start) && !end.isEqual(start)) {
             return "종료일시가 시작일시보다 앞설 수 없습니다.";
         }
-        if (end.isAfter(start.plusMonths(1))) {
-            return "조회 기간은 1개월을 초과할 수 없습니다. (API 제한)";
-        }
         return null;
     }
 
+    /*
+    조회 기간이 API 1회 조회 제한(1개월)을 넘는지 여부 (넘으면 구간 분할 수집 필요).
+     */
+    private static boolean exceedsApiRange(String bidNtceBgnDt, String bidNtceEndDt) {
+        LocalDateTime start = LocalDateTime.parse(bidNtceBgnDt, BID_DT_FORMAT);
+        LocalDateTime end = LocalDateTime.parse(bidNtceEndDt, BID_DT_FORMAT);
+        return end.isAfter(start.plusMonths(1));
+    }
+
     /*
     조회시에 억단위 금액으로 검색하기 위해서 변환
     */
@@ -292,54 +411,131 @@ public final class NaraGetSwing {
         lastSearch = searchKeyword.isEmpty() ? null : searchKeyword;
         lastWorkType = (workType == null || workType.trim().isEmpty() || "전체".equals(workType.trim())) ? null : workType.trim();
         currentPage = 1;
+        // 이전 조회가 아직 수집 중이면 취소 (요청 한도·스레드를 새 조회에 양보)
+        cancelSearch();
+        final int generation = ++searchGeneration;
+        // 새 조회 세션의 값 사전 (지난 조회의 기관명 등은 그 결과 보관소·보관 원본이 정리될 때 함께 해제)
+        NoticeDictionary.startSession();
 
+        // 1개월을 넘는 기간은 API 페이지 단위로 넘길 수 없으므로 구간 분할 수집 후 50건씩 표시
         boolean needAllFiltered = !minAsignBdgtAmt.isEmpty()
                 || lastSearch != null
-                || lastWorkType != null;
+                || lastWorkType != null
+                || exceedsApiRange(bidNtceBgnDt, bidNtceEndDt);
 
-        if (!needAllFiltered) {
+        fittedColumnWidths = null;
+        // 조건 없는 조회라도 같은 기간의 원본이 서비스에 보관되어 있으면(조건 조회 직후 조건을 모두 지운 경우) 메모리에서 바로 표시
+        if (!needAllFiltered && !apiService.hasRetainedWindow(NaraApiConfig.BASE_URL, bidNtceBgnDt, bidNtceEndDt)) {
             cachedFilteredRows = null;
+            resultRows = null;
+            searchIndex = null;
+            instantQuery = null;
+            replaceResultStore(null);
             loadPage(1);
             return;
         }
+        pageRows = null;
 
-        tableModel.setRowCount(0);
         lbSummary.setText(" ");
         setStatus("조회 중... (조건 통과 건 수집)");
 
-        final int maxApiPages = 100;
-        SwingWorker<List<Map<String, String>>, Void> worker = new SwingWorker<>() {
+        // 페이지가 도착하는 대로 표시 (첫 페이지 도착 즉시 1페이지 표시, 건수·페이지 버튼은 계속 갱신)
+        // 수집 스레드는 결과 보관소에 바로 쓰고, 테이블 모델이 참조하는 cachedFilteredRows는 EDT에서 publish()한 건수까지만 보임
+        // 공고명 색인도 페이지가 도착하는 대로 이어서 만들어, 조회 중에도 검색창 입력으로 결과 내 검색 가능
+        final List<BidNotice> store = openResultStore();
+        final PublishedRows visible = new PublishedRows(store);
+        final BigramIndex index = new BigramIndex();
+        resultRows = visible;
+        searchIndex = index;
+        instantQuery = null;
+        cachedFilteredRows = visible;
+        cachedRowsComplete = false;
+        lastTotalCount = 0;
+        fillTableFromCache(1);
+        updatePaginationPanel();
+
+        final int maxPagesPerShard = 100;
+        final CancellationToken cancel = new CancellationToken();
+        searchCancel = cancel;
+        updateCancelButton();
+        SwingWorker<Integer, PageChunk> worker = new SwingWorker<>() {
             @Override
-            protected List<Map<String, String>> doInBackground() throws Exception {
+            protected Integer doInBackground() throws Exception {
                 int connTimeoutMs = 15_000;
                 int requestTimeoutMs = 30_000;
-                List<Map<String, String>> list = new ArrayList<>();
-                for (Map<String, String> row : apiService.fetchAllFilteredRows(
+                apiService.fetchRange(
                         NaraApiConfig.BASE_URL,
                         NaraApiConfig.PersonalAuthKey,
                         lastBgn, lastEnd, lastMinAmt,
                         lastSearch,
                         lastWorkType,
-                        maxApiPages,
+                        maxPagesPerShard,
                         connTimeoutMs,
-                        requestTimeoutMs
-                )) {
-                    list.add(row);
+                        requestTimeoutMs,
+                        // 조건만 바꿔 다시 조회할 수 있도록 기간 원본 보관 (CSV 저장 수집은 보관하지 않음)
+                        true,
+                        cancel,
+                        (rows, pageIndex, pageCount) -> {
+                            store.addAll(rows);
+                            index.addAll(rows);
+                            publish(new PageChunk(pageIndex, pageCount));
+                        }
+                );
+                return store.size();
+            }
+
+            @Override
+            protected void process(List<PageChunk> chunks) {
+                // 완료 후 늦게 도착한 chunk나 이전 조회의 chunk는 무시 (최종 결과는 done()에서 반영)
+                if (isDone() || generation != searchGeneration) return;
+                int shownBefore = tableModel.getRowCount();
+                PageChunk last = chunks.get(chunks.size() - 1);
+                visible.publish();
+                if (instantQuery != null) {
+                    // 결과 내 검색 중이면 새로 공개된 행까지 다시 검색 (보이는 목록이 바뀌므로 현재 페이지를 다시 채움)
+                    selectInstantRows();
+                    fillTableFromCache(currentPage);
+                } else {
+                    lastTotalCount = cachedFilteredRows.size();
+                    tableModel.rowsAppended();
+                }
+                updateSummary();
+                // 처음 보이는 행들이 들어올 때만 컬럼 너비 다시 계산
+                if (shownBefore < ROWS_PER_PAGE) {
+                    resizeColumnsToFitContent();
                 }
-                return list;
+                updatePaginationPanel();
+                setStatus(String.format("조회 중... %d건 (%d/%d페이지)", lastTotalCount, last.pageIndex() + 1, last.pageCount()));
             }
 
             @Override
             protected void done() {
+                if (searchCancel == cancel) {
+                    searchCancel = null;
+                    updateCancelButton();
+                }
+                if (generation != searchGeneration) return;
+                // 성공·실패 모두 보관소에 기록된 행까지 공개 (실패 시 부분 결과)
+                visible.publish();
+                if (instantQuery != null) selectInstantRows();
+                refreshSummaryIfShown();
                 try {
-                    cachedFilteredRows = get();
+                    get();
+                    cachedRowsComplete = true;
                     lastTotalCount = cachedFilteredRows.size();
-                    currentPage = 1;
-                    fillTableFromCache(1);
+                    logMetrics("조건 조회 " + lastTotalCount + "건");
+                    int totalPages = Math.max(1, (int) Math.ceil((double) lastTotalCount / ROWS_PER_PAGE));
+                    currentPage = Math.min(currentPage, totalPages);
+                    fillTableFromCache(currentPage);
                     updatePaginationPanel();
                     setStatus("완료: 전체 " + lastTotalCount + "건 (50건씩 " + (int) Math.ceil((double) lastTotalCount / ROWS_PER_PAGE) + "페이지)");
                 } catch (Exception ex) {
-                    setStatus("오류 발생");
+                    // 이미 표시된 부분 결과는 그대로 둠
+                    if (isCancellation(ex)) {
+                        setStatus("취소됨 (부분 결과 " + cachedFilteredRows.size() + "건)");
+                        return;
+                    }
+                    setStatus("오류 발생 (부분 결과 " + cachedFilteredRows.size() + "건)");
                     JOptionPane.showMessageDialog(frame, ex.getMessage(), "조회 오류", JOptionPane.ERROR_MESSAGE);
                 }
             }
@@ -348,30 +544,134 @@ public final class NaraGetSwing {
     }
 
     /*
-    캐시된 데이터로 테이블 채우기
+    조건 조회 결과를 쌓을 새 보관소 열기 (이전 보관소는 닫음).
+    임시 파일을 만들 수 없으면 힙 목록으로 대신함.
+    */
+    private List<BidNotice> openResultStore() {
+        MappedNoticeStore store = null;
+        try {
+            store = MappedNoticeStore.create();
+        } catch (IOException e) {
+            log.warning("결과 보관 파일 생성 실패, 메모리에 보관: " + e.getMessage());
+        }
+        replaceResultStore(store);
+        return store != null ? store : Collections.synchronizedList(new ArrayList<>());
+    }
+
+    /*
+    결과 보관소 교체. 이전 보관소는 닫음 (이전 조회 작업이 아직 쓰고 있으면 그 작업은 실패로 끝나고 세대 확인으로 무시됨)
+    */
+    private void replaceResultStore(MappedNoticeStore store) {
+        MappedNoticeStore old = resultStore;
+        resultStore = store;
+        if (old != null) old.close();
+    }
+
+    /*
+    캐시된 데이터로 테이블 채우기 (전체 보기면 페이지 무시)
     */
     private void fillTableFromCache(int pageNo) {
         if (cachedFilteredRows == null) return;
-        tableModel.setRowCount(0);
-        int from = (pageNo - 1) * ROWS_PER_PAGE;
-        int to = Math.min(pageNo * ROWS_PER_PAGE, cachedFilteredRows.size());
-        if (from >= cachedFilteredRows.size()) return;
-
-        lbSummary.setText(String.format("한페이지: %d건 | 현재: %d페이지 | 전체: %d건 (조건 통과)",
-                ROWS_PER_PAGE, pageNo, lastTotalCount));
-
-        for (int i = from; i < to; i++) {
-            Map<String, String> row = cachedFilteredRows.get(i);
-            Object[] values = new Object[BidItemColumn.KEY_LIST.size() + 1];
-            values[0] = String.valueOf(i + 1);
-            for (int j = 0; j < BidItemColumn.KEY_LIST.size(); j++) {
-                values[j + 1] = row.getOrDefault(BidItemColumn.KEY_LIST.get(j), "");
-            }
-            tableModel.addRow(values);
+        if (cbShowAll.isSelected()) {
+            tableModel.showAll(cachedFilteredRows);
+        } else {
+            tableModel.showPage(cachedFilteredRows, pageNo, ROWS_PER_PAGE);
         }
+        updateSummary();
         resizeColumnsToFitContent();
     }
 
+    /*
+    수집 결과 요약 표시
+    */
+    private void updateSummary() {
+        if (cbShowAll.isSelected()) {
+            lbSummary.setText(String.format("전체 보기 | 전체: %d건 (%s)", lastTotalCount, summaryScope()));
+        } else {
+            lbSummary.setText(String.format("한페이지: %d건 | 현재: %d페이지 | 전체: %d건 (%s)",
+                    ROWS_PER_PAGE, currentPage, lastTotalCount, summaryScope()));
+        }
+    }
+
+    /*
+    검색창 입력으로 결과 내 검색 (API 재호출 없이 공고명 색인으로 바로 거름).
+    입력이 마지막 조회 검색어와 같거나 비어 있으면 조회 결과 전체를 보임. 다른 검색어로 새로 수집하려면 조회 버튼.
+    */
+    private void onSearchTextChanged() {
+        if (resultRows == null) return;
+        String text = tfSearch.getText().trim();
+        BigramIndex.Query query = text.equals(lastSearch == null ? "" : lastSearch) ? null : BigramIndex.Query.parse(text);
+        instantQuery = query == null || query.isEmpty() ? null : query;
+        long startNanos = System.nanoTime();
+        selectInstantRows();
+        long elapsedMicros = (System.nanoTime() - startNanos) / 1000;
+        currentPage = 1;
+        fillTableFromCache(1);
+        updatePaginationPanel();
+        refreshSummaryIfShown();
+        if (instantQuery != null) {
+            setStatus(String.format("결과 내 검색: %d건 / 조회 결과 %d건 (%.2fms)", lastTotalCount, resultRows.size(), elapsedMicros / 1000.0));
+        } else {
+            setStatus("완료: 전체 " + lastTotalCount + "건");
+        }
+    }
+
+    /*
+    결과 내 검색식으로 보이는 목록 다시 계산 (검색식이 없으면 조회 결과 전체)
+    */
+    private void selectInstantRows() {
+        cachedFilteredRows = instantQuery == null
+                ? resultRows
+                : new SelectedRows(resultRows, searchIndex.search(instantQuery, resultRows.size()));
+        lastTotalCount = cachedFilteredRows.size();
+    }
+
+    /*
+    통계 탭이 보이는 중이면 현재 결과로 다시 집계
+    */
+    private void refreshSummaryIfShown() {
+        if (resultTabs.getSelectedComponent() == summaryPanel) {
+            summaryPanel.refresh();
+        }
+    }
+
+    /*
+    통계 집계 대상: 조건 조회 결과(공개된 건수까지) 또는 조건 없는 조회의 현재 페이지
+    */
+    private SummaryPanel.Source summarySource() {
+        if (cachedFilteredRows != null) {
+            int count = cachedFilteredRows.size();
+            MappedNoticeStore store = resultStore;
+            // 보관소는 열 값을 바로 읽을 수 있으므로 복사 없이 공개된 건수(결과 내 검색이면 해당 행)까지만 집계.
+            // 집계 중 새 조회가 보관소를 닫아도 집계가 끝날 때까지 파일이 해제되지 않도록 retain
+            if (store != null && store.retain()) {
+                if (cachedFilteredRows instanceof SelectedRows selected) {
+                    return new SummaryPanel.Source(NoticeColumns.select(store, selected.rows()), count, "결과 내 검색 결과", store::release);
+                }
+                return new SummaryPanel.Source(store, count, "조건 조회 결과", store::release);
+            }
+            return new SummaryPanel.Source(NoticeTable.of(new ArrayList<>(cachedFilteredRows)), count, "조건 조회 결과");
+        }
+        if (pageRows != null) {
+            return new SummaryPanel.Source(NoticeTable.of(pageRows), pageRows.size(), "현재 페이지");
+        }
+        return null;
+    }
+
+    private String summaryScope() {
+        return instantQuery != null ? "결과 내 검색" : "조건 통과";
+    }
+
+    /*
+    전체 보기 전환 (수집 결과가 있을 때만 가능)
+    */
+    private void onShowAllChanged() {
+        if (cachedFilteredRows == null) return;
+        currentPage = 1;
+        fillTableFromCache(1);
+        updatePaginationPanel();
+    }
+
     /*
     페이지 로드
     */
@@ -392,42 +692,52 @@ public final class NaraGetSwing {
         final String searchKeyword = lastSearch != null ? lastSearch : tfSearch.getText().trim();
         final String workType = lastWorkType != null ? lastWorkType : (String) tfWorkType.getSelectedItem();
 
-        tableModel.setRowCount(0);
+        tableModel.clear();
+        pageRows = null;
         lbSummary.setText(" ");
         setStatus("조회 중...");
 
         final String numOfRows = String.valueOf(ROWS_PER_PAGE);
         final String pageNoStr = String.valueOf(pageNo);
+        // 페이지를 빠르게 넘길 때 이전 페이지 요청은 취소하고 마지막 요청 결과만 표시
+        cancelSearch();
+        final int generation = ++searchGeneration;
+        final CancellationToken cancel = new CancellationToken();
+        searchCancel = cancel;
+        updateCancelButton();
 
         SwingWorker<GridResult, Void> worker = new SwingWorker<>() {
             @Override
             protected GridResult doInBackground() throws Exception {
-                long loadPageStartMs = System.currentTimeMillis();
                 int connTimeoutMs = 5000;
                 int requestTimeoutMs = 5000;
-                String jsonData = apiService.callApi(
+                String searchOpt = searchKeyword.isEmpty() ? null : searchKeyword;
+                String workOpt = (workType == null || workType.trim().isEmpty() || "전체".equals(workType.trim())) ? null : workType.trim();
+                // 이미 본 페이지는 서비스의 메모리 캐시에서 바로 받음 (API 재호출 없음)
+                GridResult gr = apiService.fetchPage(
                         NaraApiConfig.BASE_URL,
                         NaraApiConfig.PersonalAuthKey,
                         numOfRows,
                         pageNoStr,
                         bgn,
                         end,
-                        "json",
-                        connTimeoutMs,
-                        requestTimeoutMs
-                );
-                String searchOpt = searchKeyword.isEmpty() ? null : searchKeyword;
-                String workOpt = (workType == null || workType.trim().isEmpty() || "전체".equals(workType.trim())) ? null : workType.trim();
-                GridResult gr = apiService.toGridRows(jsonData,
                         (minAmt == null || minAmt.trim().isEmpty()) ? null : minAmt,
                         searchOpt,
-                        workOpt);
-                log.info(String.format("[시간측정] UI 조회(loadPage) | pageNo=%d | %d ms", pageNo, System.currentTimeMillis() - loadPageStartMs));
+                        workOpt,
+                        connTimeoutMs,
+                        requestTimeoutMs,
+                        cancel
+                );
                 return gr;
             }
 
             @Override
             protected void done() {
+                if (searchCancel == cancel) {
+                    searchCancel = null;
+                    updateCancelButton();
+                }
+                if (generation != searchGeneration) return;
                 try {
                     GridResult gr = get();
                     lastTotalCount = gr.totalCount;
@@ -436,19 +746,17 @@ public final class NaraGetSwing {
                     lbSummary.setText(String.format("결과코드: %s | 결과메시지: %s | 한페이지: %d건 | 현재: %d페이지 | 전체: %d건",
                             gr.resultCode, gr.resultMsg, ROWS_PER_PAGE, currentPage, gr.totalCount));
 
-                    for (Map<String, String> row : gr.rows) {
-                        Object[] values = new Object[BidItemColumn.KEY_LIST.size() + 1];
-                        values[0] = row.getOrDefault("순번", "");
-                        for (int i = 0; i < BidItemColumn.KEY_LIST.size(); i++) {
-                            values[i + 1] = row.getOrDefault(BidItemColumn.KEY_LIST.get(i), "");
-                        }
-                        tableModel.addRow(values);
-                    }
-
+                    tableModel.showAll(gr.rows);
+                    pageRows = gr.rows;
                     resizeColumnsToFitContent();
                     updatePaginationPanel();
                     setStatus("완료: " + gr.rows.size() + "건");
+                    refreshSummaryIfShown();
                 } catch (Exception ex) {
+                    if (isCancellation(ex)) {
+                        setStatus("취소됨");
+                        return;
+                    }
                     setStatus("오류 발생");
                     JOptionPane.showMessageDialog(frame, ex.getMessage(), "조회 오류", JOptionPane.ERROR_MESSAGE);
                 }
@@ -463,6 +771,13 @@ public final class NaraGetSwing {
     */
     private void updatePaginationPanel() {
         paginationPanel.removeAll();
+        cbShowAll.setEnabled(cachedFilteredRows != null);
+        if (cachedFilteredRows != null && cbShowAll.isSelected()) {
+            // 전체 보기는 스크롤로 이동하므로 페이지 버튼 없음
+            paginationPanel.revalidate();
+            paginationPanel.repaint();
+            return;
+        }
         final int totalPages = Math.max(1, lastTotalCount <= 0 ? 1 : (int) Math.ceil((double) lastTotalCount / ROWS_PER_PAGE));
 
         JButton btnPrev = new JButton("이전");
@@ -520,7 +835,7 @@ public final class NaraGetSwing {
             return;
         }
 
-        String[] options = {"현재 페이지(50건) 저장", "전체 결과 저장"};
+        String[] options = {"현재 화면 저장", "전체 결과 저장"};
         int choice = JOptionPane.showOptionDialog(
                 frame,
                 "CSV 저장 방식을 선택하세요.",
@@ -541,7 +856,7 @@ public final class NaraGetSwing {
 
         File file = chooser.getSelectedFile();
 
-        // 0: 현재 페이지(테이블에 보이는 50건) 저장
+        // 0: 현재 화면(테이블에 보이는 행) 저장
         if (choice == 0) {
             if (tableModel.getRowCount() == 0) {
                 JOptionPane.showMessageDialog(frame, "현재 페이지에 저장할 데이터가 없습니다.", "안내", JOptionPane.INFORMATION_MESSAGE);
@@ -557,74 +872,101 @@ public final class NaraGetSwing {
         }
 
         // 1: 전체 결과 저장
+        // 이미 캐시(필터 조회)된 결과가 끝까지 수집되었으면 그대로 저장
+        if (cachedFilteredRows != null && !cachedRowsComplete) {
+            // 수집 중이거나 취소·오류로 끝난 부분 결과는 전체가 아니므로 API에서 다시 받아 저장
+            int confirm = JOptionPane.showConfirmDialog(frame,
+                    "조회가 끝나지 않아 지금까지 받은 " + cachedFilteredRows.size() + "건은 전체 결과가 아닙니다.\n"
+                            + "같은 조건으로 전체 결과를 다시 받아 저장할까요?",
+                    "CSV 저장", JOptionPane.OK_CANCEL_OPTION, JOptionPane.WARNING_MESSAGE);
+            if (confirm != JOptionPane.OK_OPTION) return;
+        } else if (cachedFilteredRows != null && !cachedFilteredRows.isEmpty()) {
+            try {
+                writeCsvFromRows(cachedFilteredRows, file);
+                setStatus("완료: 전체 " + cachedFilteredRows.size() + "건 CSV 저장");
+                JOptionPane.showMessageDialog(frame, "저장 완료:\n" + file.getAbsolutePath(), "OK", JOptionPane.INFORMATION_MESSAGE);
+            } catch (Exception ex) {
+                setStatus("오류 발생");
+                JOptionPane.showMessageDialog(frame, ex.getMessage(), "저장 오류", JOptionPane.ERROR_MESSAGE);
+            }
+            return;
+        }
+
+        // 캐시가 없거나(=일반 조회) 부분 결과뿐이면 전체 페이지를 API에서 받으면서 도착한 페이지부터 바로 파일에 기록
+        if (exportCancel != null) {
+            JOptionPane.showMessageDialog(frame, "이미 CSV 저장이 진행 중입니다.", "안내", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
         setStatus("전체 결과 CSV 생성 중...");
-        SwingWorker<List<Map<String, String>>, Void> worker = new SwingWorker<>() {
+        final String bgn = lastBgn != null ? lastBgn : getBidDtFromSpinner(spinnerBgn);
+        final String end = lastEnd != null ? lastEnd : getBidDtFromSpinner(spinnerEnd);
+        final String minAmt = (lastMinAmt == null || lastMinAmt.trim().isEmpty()) ? null : lastMinAmt;
+        final String searchOpt = (lastSearch == null || lastSearch.trim().isEmpty()) ? null : lastSearch;
+        final String workOpt = (lastWorkType == null || lastWorkType.trim().isEmpty()) ? null : lastWorkType;
+
+        final CancellationToken cancel = new CancellationToken();
+        exportCancel = cancel;
+        updateCancelButton();
+        SwingWorker<Long, String> worker = new SwingWorker<>() {
             @Override
-            protected List<Map<String, String>> doInBackground() throws Exception {
-                // 이미 캐시(필터 조회)된 결과가 있으면 그대로 사용
-                if (cachedFilteredRows != null && !cachedFilteredRows.isEmpty()) {
-                    return cachedFilteredRows;
+            protected Long doInBackground() throws Exception {
+                long[] seq = {0};
+                try (BidCsvWriter csv = BidCsvWriter.open(file)) {
+                    csv.writeHeader(BidCsvWriter.defaultHeader());
+                    // 기간 분할·페이지 수 계산은 서비스(QueryPlanner)가 구간별 totalCount로 처리
+                    apiService.fetchRange(
+                            NaraApiConfig.BASE_URL,
+                            NaraApiConfig.PersonalAuthKey,
+                            bgn,
+                            end,
+                            minAmt,
+                            searchOpt,
+                            workOpt,
+                            500,
+                            15_000,
+                            30_000,
+                            cancel,
+                            (rows, pageIndex, pageCount) -> {
+                                for (BidNotice row : rows) {
+                                    csv.writeRow(row, ++seq[0]);
+                                }
+                                // 페이지 단위로 디스크에 반영 (중간 파일로 진행 상황 확인 가능)
+                                csv.flush();
+                                publish(String.format("전체 결과 CSV 생성 중... (%d/%d페이지, %d건)",
+                                        pageIndex + 1, pageCount, seq[0]));
+                            }
+                    );
                 }
+                logMetrics("전체 결과 CSV 저장 " + seq[0] + "건");
+                return seq[0];
+            }
 
-                // 캐시가 없으면(=일반 조회) 전체 페이지를 API에서 모두 가져와 저장
-                long saveAllStartMs = System.currentTimeMillis();
-                String bgn = lastBgn != null ? lastBgn : getBidDtFromSpinner(spinnerBgn);
-                String end = lastEnd != null ? lastEnd : getBidDtFromSpinner(spinnerEnd);
-
-                String minAmt = (lastMinAmt == null || lastMinAmt.trim().isEmpty()) ? null : lastMinAmt;
-                String searchOpt = (lastSearch == null || lastSearch.trim().isEmpty()) ? null : lastSearch;
-                String workOpt = (lastWorkType == null || lastWorkType.trim().isEmpty()) ? null : lastWorkType;
-
-                // 총건수 기반으로 필요한 페이지 수를 계산 (999건/페이지)
-                long countStartMs = System.currentTimeMillis();
-                String jsonForCount = apiService.callApi(
-                        NaraApiConfig.BASE_URL,
-                        NaraApiConfig.PersonalAuthKey,
-                        "1",
-                        "1",
-                        bgn,
-                        end,
-                        "json",
-                        5000,
-                        5000
-                );
-                long totalCount = apiService.toGridRows(jsonForCount).totalCount;
-                log.info(String.format("[시간측정] UI 전체저장 - totalCount 조회 | %d ms", System.currentTimeMillis() - countStartMs));
-
-                int pagesNeeded = (int) Math.ceil(totalCount / 999.0);
-                int maxApiPages = Math.max(1, Math.min(pagesNeeded, 500)); // 안전장치
-
-                long fetchStartMs = System.currentTimeMillis();
-                List<Map<String, String>> rows = new ArrayList<>(apiService.fetchAllFilteredRows(
-                        NaraApiConfig.BASE_URL,
-                        NaraApiConfig.PersonalAuthKey,
-                        bgn,
-                        end,
-                        minAmt,
-                        searchOpt,
-                        workOpt,
-                        maxApiPages,
-                        15_000,
-                        30_000
-                ));
-                log.info(String.format("[시간측정] UI 전체저장 - fetchAllFilteredRows | %d 건 | %d ms", rows.size(), System.currentTimeMillis() - fetchStartMs));
-                log.info(String.format("[시간측정] UI 전체저장 전체 | %d ms", System.currentTimeMillis() - saveAllStartMs));
-                return rows;
+            @Override
+            protected void process(List<String> chunks) {
+                setStatus(chunks.get(chunks.size() - 1));
             }
 
             @Override
             protected void done() {
+                exportCancel = null;
+                updateCancelButton();
                 try {
-                    List<Map<String, String>> rows = get();
-                    if (rows == null || rows.isEmpty()) {
+                    long count = get();
+                    if (count == 0) {
+                        file.delete();
                         setStatus("완료: 0건");
                         JOptionPane.showMessageDialog(frame, "저장할 데이터가 없습니다.", "안내", JOptionPane.INFORMATION_MESSAGE);
                         return;
                     }
-                    writeCsvFromRows(rows, file);
-                    setStatus("완료: 전체 " + rows.size() + "건 CSV 저장");
+                    setStatus("완료: 전체 " + count + "건 CSV 저장");
                     JOptionPane.showMessageDialog(frame, "저장 완료:\n" + file.getAbsolutePath(), "OK", JOptionPane.INFORMATION_MESSAGE);
                 } catch (Exception ex) {
+                    if (isCancellation(ex)) {
+                        // 중간까지 기록된 파일은 남기지 않음
+                        file.delete();
+                        setStatus("CSV 저장 취소됨");
+                        return;
+                    }
                     setStatus("오류 발생");
                     JOptionPane.showMessageDialog(frame, ex.getMessage(), "저장 오류", JOptionPane.ERROR_MESSAGE);
                 }
@@ -634,73 +976,32 @@ public final class NaraGetSwing {
     }
 
     /*
-    현재 테이블(현재 페이지) 기준 CSV 저장
+    현재 테이블(현재 화면) 기준 CSV 저장
     */
     private void writeCsvFromTableModel(File file) throws Exception {
-        try (OutputStream os = new FileOutputStream(file);
-             OutputStreamWriter osw = new OutputStreamWriter(os, StandardCharsets.UTF_8);
-             BufferedWriter bw = new BufferedWriter(osw)) {
-
-            bw.write("\uFEFF"); // UTF-8 BOM (엑셀 호환)
-
-            for (int c = 0; c < tableModel.getColumnCount(); c++) {
-                bw.append(tableModel.getColumnName(c));
-                if (c < tableModel.getColumnCount() - 1) bw.append(',');
-            }
-            bw.newLine();
-
+        try (BidCsvWriter csv = BidCsvWriter.open(file)) {
+            csv.writeHeader(BidCsvWriter.defaultHeader());
+            List<String> cells = new ArrayList<>(tableModel.getColumnCount());
             for (int r = 0; r < tableModel.getRowCount(); r++) {
+                cells.clear();
                 for (int c = 0; c < tableModel.getColumnCount(); c++) {
-                    String v = String.valueOf(tableModel.getValueAt(r, c));
-                    v = v.replace("\"", "\"\"");
-                    bw.append('"').append(v).append('"');
-                    if (c < tableModel.getColumnCount() - 1) bw.append(',');
+                    cells.add(String.valueOf(tableModel.getValueAt(r, c)));
                 }
-                bw.newLine();
+                csv.writeCells(cells);
             }
         }
     }
 
     /*
     전체 결과(행 목록) 기준 CSV 저장
-    - 컬럼 순서는 화면 테이블과 동일(순번 + BidItemColumn.KEY_LIST)
+    - 컬럼 순서는 화면 테이블과 동일(순번 + BidItemColumn.GRID_KEY_LIST)
     */
-    private void writeCsvFromRows(List<Map<String, String>> rows, File file) throws Exception {
-        try (OutputStream os = new FileOutputStream(file);
-             OutputStreamWriter osw = new OutputStreamWriter(os, StandardCharsets.UTF_8);
-             BufferedWriter bw = new BufferedWriter(osw)) {
-
-            bw.write("\uFEFF"); // UTF-8 BOM (엑셀 호환)
-
-            // 헤더는 현재 테이블 컬럼명을 그대로 사용
-            for (int c = 0; c < tableModel.getColumnCount(); c++) {
-                bw.append(tableModel.getColumnName(c));
-                if (c < tableModel.getColumnCount() - 1) bw.append(',');
-            }
-            bw.newLine();
-
+    private void writeCsvFromRows(List<BidNotice> rows, File file) throws Exception {
+        try (BidCsvWriter csv = BidCsvWriter.open(file)) {
+            csv.writeHeader(BidCsvWriter.defaultHeader());
             for (int i = 0; i < rows.size(); i++) {
-                Map<String, String> row = rows.get(i);
-
-                // 0열: 순번 (없으면 i+1)
-                writeCsvCell(bw, row.getOrDefault("순번", String.valueOf(i + 1)));
-                bw.append(',');
-
-                // 나머지 컬럼: BidItemColumn.KEY_LIST 순서대로
-                for (int k = 0; k < BidItemColumn.KEY_LIST.size(); k++) {
-                    String key = BidItemColumn.KEY_LIST.get(k);
-                    String v = row.getOrDefault(key, "");
-                    writeCsvCell(bw, v);
-                    if (k < BidItemColumn.KEY_LIST.size() - 1) bw.append(',');
-                }
-                bw.newLine();
+                csv.writeRow(rows.get(i), i + 1);
             }
         }
     }
-
-    private void writeCsvCell(BufferedWriter bw, String value) throws Exception {
-        String v = (value == null) ? "" : value;
-        v = v.replace("\"", "\"\"");
-        bw.append('\"').append(v).append('\"');
-    }
 }
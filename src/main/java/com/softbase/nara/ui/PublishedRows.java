@@ -0,0 +1,40 @@
+package com.softbase.nara.ui;
+
+import com.softbase.nara.dto.BidNotice;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/*
+수집 작업 스레드가 계속 행을 추가하는 목록(결과 보관소)을 EDT에서 공개한 건수까지만 보여주는 읽기 전용 목록.
+테이블 모델은 목록이 EDT에서만 바뀐다고 가정하므로, 보관소의 건수가 늘어도 publish()를 호출하기 전에는 size()가 그대로임.
+publish()와 읽기는 EDT에서만.
+ */
+final class PublishedRows extends AbstractList<BidNotice> implements RandomAccess {
+
+    private final List<BidNotice> source;
+    private int size;
+
+    PublishedRows(List<BidNotice> source) {
+        this.source = source;
+    }
+
+    /*
+    보관소에 지금까지 기록된 행을 공개
+     */
+    void publish() {
+        size = source.size();
+    }
+
+    @Override
+    public BidNotice get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("index " + index + ", size " + size);
+        return source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,39 @@
+package com.softbase.nara.ui;
+
+import com.softbase.nara.dto.BidNotice;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/*
+원본 목록의 일부 행(결과 내 검색 결과)만 보이는 읽기 전용 목록 (행 복사 없음).
+rows는 원본 위치 오름차순이며, 원본이 EDT 전용(PublishedRows)이면 이 목록도 EDT에서만 읽음.
+ */
+final class SelectedRows extends AbstractList<BidNotice> implements RandomAccess {
+
+    private final List<BidNotice> source;
+    private final int[] rows;
+
+    SelectedRows(List<BidNotice> source, int[] rows) {
+        this.source = source;
+        this.rows = rows;
+    }
+
+    /*
+    보이는 행의 원본 위치
+     */
+    int[] rows() {
+        return rows;
+    }
+
+    @Override
+    public BidNotice get(int index) {
+        return source.get(rows[index]);
+    }
+
+    @Override
+    public int size() {
+        return rows.length;
+    }
+}
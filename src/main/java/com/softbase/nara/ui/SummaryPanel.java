@@ -0,0 +1,204 @@
+package com.softbase.nara.ui;
+
+import com.softbase.nara.dto.BidNotice;
+import com.softbase.nara.service.BidAggregator;
+import com.softbase.nara.store.NoticeColumns;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/*
+조회 결과 통계 탭. 그룹 기준(기관·업무구분·계약방법·상태·일자·월)별 건수와 배정예산금액·추정가격 합계/평균을 보여줌.
+집계는 SwingWorker에서 BidAggregator로 하고, 정렬 기준·상위 N 변경은 마지막 집계 결과만 다시 정렬.
+집계 대상은 refresh() 때마다 source에서 받음 (EDT에서 호출, 없으면 null).
+ */
+final class SummaryPanel extends JPanel {
+
+    private static final Logger log = Logger.getLogger(SummaryPanel.class.getName());
+
+    /*
+    집계 대상: 열 형식의 앞 rowCount행. release는 집계가 끝나면(성공·실패 모두) 집계 스레드에서 한 번 호출
+    (결과 보관소를 retain()한 경우 해제용, 없으면 아무것도 안 함)
+    */
+    record Source(NoticeColumns columns, int rowCount, String label, Runnable release) {
+        Source(NoticeColumns columns, int rowCount, String label) {
+            this(columns, rowCount, label, () -> {});
+        }
+    }
+
+    private final Supplier<Source> source;
+
+    private final JComboBox<BidAggregator.GroupBy> cbGroupBy = new JComboBox<>(BidAggregator.GroupBy.values());
+    private final JComboBox<BidAggregator.SortKey> cbSortKey = new JComboBox<>(BidAggregator.SortKey.values());
+    private final JSpinner spTopN = new JSpinner(new SpinnerNumberModel(20, 0, 10_000, 10));
+    private final JLabel lbInfo = new JLabel(" ");
+    private final StatTableModel model = new StatTableModel();
+
+    // 마지막 집계 결과 (없으면 null)
+    private BidAggregator.Result result;
+    // 집계 세대 (늦게 끝난 이전 집계 결과 무시용)
+    private int generation = 0;
+
+    SummaryPanel(Supplier<Source> source) {
+        super(new BorderLayout());
+        this.source = source;
+
+        JPanel controls = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        controls.add(new JLabel("그룹 기준"));
+        controls.add(cbGroupBy);
+        controls.add(new JLabel("정렬"));
+        controls.add(cbSortKey);
+        controls.add(new JLabel("상위 (0=전체)"));
+        controls.add(spTopN);
+        JButton btnRefresh = new JButton("다시 집계");
+        controls.add(btnRefresh);
+
+        JPanel north = new JPanel(new BorderLayout());
+        north.add(controls, BorderLayout.NORTH);
+        north.add(lbInfo, BorderLayout.SOUTH);
+
+        JTable table = new JTable(model);
+        table.getColumnModel().getColumn(0).setPreferredWidth(40);
+        table.getColumnModel().getColumn(1).setPreferredWidth(260);
+
+        add(north, BorderLayout.NORTH);
+        add(new JScrollPane(table), BorderLayout.CENTER);
+
+        cbGroupBy.addActionListener(e -> refresh());
+        cbSortKey.addActionListener(e -> showResult());
+        spTopN.addChangeListener(e -> showResult());
+        btnRefresh.addActionListener(e -> refresh());
+    }
+
+    /*
+    현재 조회 결과로 다시 집계 (EDT에서 호출)
+    */
+    void refresh() {
+        final int gen = ++generation;
+        final Source src = source.get();
+        final BidAggregator.GroupBy groupBy = (BidAggregator.GroupBy) cbGroupBy.getSelectedItem();
+        if (src == null) {
+            result = null;
+            showResult();
+            lbInfo.setText("집계할 조회 결과 없음");
+            return;
+        }
+        lbInfo.setText("집계 중... (" + src.rowCount() + "건)");
+        SwingWorker<BidAggregator.Result, Void> worker = new SwingWorker<>() {
+            private long elapsedMs;
+
+            @Override
+            protected BidAggregator.Result doInBackground() {
+                try {
+                    long t0 = System.nanoTime();
+                    BidAggregator.Result r = BidAggregator.aggregate(src.columns(), src.rowCount(), groupBy);
+                    elapsedMs = (System.nanoTime() - t0) / 1_000_000;
+                    return r;
+                } finally {
+                    src.release().run();
+                }
+            }
+
+            @Override
+            protected void done() {
+                if (gen != generation) return;
+                try {
+                    result = get();
+                    showResult();
+                    BidAggregator.GroupStat total = result.total();
+                    lbInfo.setText(String.format("%s %,d건 | %s %,d개 그룹 | 배정예산 합계 %s원 | 추정가격 합계 %s원 | %dms",
+                            src.label(), result.rowCount(), groupBy.label, result.groups().size(),
+                            BidNotice.formatAmount(total.asignBdgtSum()),
+                            BidNotice.formatAmount(total.presmptPrceSum()), elapsedMs));
+                } catch (Exception ex) {
+                    log.warning("통계 집계 실패: " + ex);
+                    result = null;
+                    showResult();
+                    lbInfo.setText("집계 실패: " + ex.getMessage());
+                }
+            }
+        };
+        worker.execute();
+    }
+
+    /*
+    마지막 집계 결과를 정렬 기준·상위 N으로 표시
+    */
+    private void showResult() {
+        if (result == null) {
+            model.show(null, Collections.emptyList());
+            return;
+        }
+        int topN = (Integer) spTopN.getValue();
+        BidAggregator.SortKey sortKey = (BidAggregator.SortKey) cbSortKey.getSelectedItem();
+        model.show(result.groupBy(), BidAggregator.top(result.groups(), sortKey, topN));
+    }
+
+    /*
+    그룹 통계 테이블 모델 (금액은 Long으로 넘겨 기본 숫자 렌더러가 천 단위 구분·오른쪽 정렬, 금액 없는 평균은 빈칸)
+     */
+    private static final class StatTableModel extends AbstractTableModel {
+
+        private static final String[] COLUMNS = {
+                "순위", "그룹", "건수", "배정예산 합계", "배정예산 평균", "추정가격 합계", "추정가격 평균"
+        };
+
+        private List<BidAggregator.GroupStat> rows = Collections.emptyList();
+        private String groupLabel = "그룹";
+
+        void show(BidAggregator.GroupBy groupBy, List<BidAggregator.GroupStat> rows) {
+            this.rows = rows;
+            String label = groupBy == null ? "그룹" : groupBy.label;
+            if (!label.equals(groupLabel)) {
+                groupLabel = label;
+                fireTableStructureChanged();
+            } else {
+                fireTableDataChanged();
+            }
+        }
+
+        @Override
+        public int getRowCount() {
+            return rows.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return column == 1 ? groupLabel : COLUMNS[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            return column == 1 ? String.class : Long.class;
+        }
+
+        @Override
+        public Object getValueAt(int rowIndex, int columnIndex) {
+            BidAggregator.GroupStat s = rows.get(rowIndex);
+            switch (columnIndex) {
+                case 0: return (long) rowIndex + 1;
+                case 1: return s.key();
+                case 2: return s.count();
+                case 3: return amount(s.asignBdgtCount(), s.asignBdgtSum());
+                case 4: return amount(s.asignBdgtCount(), s.asignBdgtAvg());
+                case 5: return amount(s.presmptPrceCount(), s.presmptPrceSum());
+                case 6: return amount(s.presmptPrceCount(), s.presmptPrceAvg());
+                default: return null;
+            }
+        }
+
+        private static Long amount(long n, long value) {
+            return n == 0 ? null : value;
+        }
+    }
+}